@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of call arguments for the log, for a small call and a large messaging payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentsFormatterBenchmark {
+    private Map<String, Object> mSmallArguments;
+    private Map<String, Object> mMessageArguments;
+
+    @Setup
+    public void setup() {
+        mSmallArguments = new HashMap<>();
+        mSmallArguments.put("callId", "3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f");
+        mSmallArguments.put("enable", true);
+
+        List<Object> payload = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("title", "payload item " + i);
+            item.put("data", new String(new char[256]).replace('\0', 'x'));
+            payload.add(item);
+        }
+        mMessageArguments = new HashMap<>();
+        mMessageArguments.put("conversation", "3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f");
+        mMessageArguments.put("text", new String(new char[4096]).replace('\0', 'x'));
+        mMessageArguments.put("payload", payload);
+    }
+
+    @Benchmark
+    public String formatSmall() {
+        return ArgumentsFormatter.format("Call.holdCall", mSmallArguments);
+    }
+
+    @Benchmark
+    public String formatMessage() {
+        return ArgumentsFormatter.format("Messaging.sendMessage", mMessageArguments);
+    }
+
+    @Benchmark
+    public String formatUnsummarizedMessage() {
+        return ArgumentsFormatter.format("Messaging.unknown", mMessageArguments);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of high-frequency events in the binary event format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryEventCodecBenchmark {
+    private final String mEndpointId = "c2a7e1a0-5b1f-4f6e-9d2b-2f0c4c2d7a11";
+
+    @Benchmark
+    public byte[] packetLoss() {
+        return BinaryEventCodec.qualityIssue(BinaryEventCodec.PACKET_LOSS, 2, 0.05);
+    }
+
+    @Benchmark
+    public byte[] voiceActivity() {
+        return BinaryEventCodec.voiceActivity(BinaryEventCodec.VOICE_ACTIVITY_STARTED, mEndpointId);
+    }
+
+    @Benchmark
+    public byte[] resolutionChanged() {
+        return BinaryEventCodec.resolutionChanged(1280, 720, 0, 7);
+    }
+}
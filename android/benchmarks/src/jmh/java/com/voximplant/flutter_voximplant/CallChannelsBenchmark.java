@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Setting up the channels of an incoming call in the SDK callback, the work
+ * {@link CallChannelPool} does ahead of time. Channel registration itself is free with the
+ * stand-in messenger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallChannelsBenchmark {
+    private final BinaryMessenger mMessenger = new BinaryMessenger() {};
+    private int mNextChannelId;
+
+    @Benchmark
+    public CallChannels create() {
+        return new CallChannels(mMessenger, "incoming_" + mNextChannelId++);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Resolving the call of a Call.* and a VideoStream.* method call, with calls of the SDK call fake
+ * that each own streamsPerCall video streams. A miss replies with an error through the Handler
+ * stand-in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallManagerBenchmark {
+    @Param({"1", "4"})
+    public int calls;
+
+    @Param({"25"})
+    public int streamsPerCall;
+
+    private final CallManager mCallManager = new CallManager();
+    private MethodCall mCallIdCall;
+    private MethodCall mStreamIdCall;
+    private MethodCall mUnknownStreamIdCall;
+    private final MethodChannel.Result mResult = new MethodChannel.Result() {
+        @Override
+        public void success(Object result) {
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    };
+
+    @Setup
+    public void setup() {
+        BinaryMessenger messenger = new BinaryMessenger() {};
+        VideoRendererPool rendererPool = new VideoRendererPool(messenger, () -> null);
+        Executor executor = Runnable::run;
+        String callId = null;
+        String streamId = null;
+        for (int i = 0; i < calls; i++) {
+            FakeCall call = new FakeCall(executor);
+            callId = call.getCallId();
+            CallTimeline timeline = CallSetupMetrics.getInstance()
+                    .startTimeline(callId, CallTimeline.OUTGOING, System.nanoTime());
+            CallModule callModule = new CallModule(rendererPool, mCallManager, call,
+                    new CallChannels(messenger, callId), timeline);
+            mCallManager.addNewCall(callId, callModule);
+            for (int j = 0; j < streamsPerCall; j++) {
+                streamId = callId + "-stream-" + j;
+                mCallManager.videoStreamAdded(streamId, callModule);
+            }
+        }
+        mCallIdCall = call("Call.getCallDuration", "callId", callId);
+        mStreamIdCall = call("VideoStream.setVisibility", "streamId", streamId);
+        mUnknownStreamIdCall = call("VideoStream.setVisibility", "streamId", "unknown");
+    }
+
+    private static MethodCall call(String method, String key, String id) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put(key, id);
+        return new MethodCall(method, arguments);
+    }
+
+    @Benchmark
+    public CallModule findByCallId() {
+        return mCallManager.checkCallEvent(mCallIdCall, mResult, "Call.getCallDuration");
+    }
+
+    @Benchmark
+    public CallModule findByStreamId() {
+        return mCallManager.findCallByStreamId(mStreamIdCall, mResult, "VideoStream.setVisibility");
+    }
+
+    @Benchmark
+    public CallModule findByUnknownStreamId() {
+        return mCallManager.findCallByStreamId(mUnknownStreamIdCall, mResult, "VideoStream.setVisibility");
+    }
+
+    @Benchmark
+    public List<CallModule> getCalls() {
+        return mCallManager.getCalls();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.Voximplant;
+import com.voximplant.sdk.call.VideoStreamReceiveStopReason;
+import com.voximplant.sdk.messaging.IMessageEvent;
+import com.voximplant.sdk.messaging.MessengerAction;
+import com.voximplant.sdk.messaging.MessengerEventType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Building the event maps of SDK callbacks in CallModule and MessagingModule, called the way the
+ * SDK calls them with the SDK fakes. Nobody listens to the channels: call events go to the bounded
+ * replay buffer of the call channel, and messaging events are dropped by the event dispatcher.
+ * The Handler stand-in runs the main thread task of a call event right away.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapsBenchmark {
+    private CallModule mCallModule;
+    private FakeEndpoint mEndpoint;
+    private FakeRemoteVideoStream mVideoStream;
+    private MessagingModule mMessagingModule;
+    private IMessageEvent mMessageEvent;
+
+    @Setup
+    public void setup() {
+        BinaryMessenger messenger = new BinaryMessenger() {};
+        Executor executor = Runnable::run;
+        FakeCall call = new FakeCall(executor);
+        CallTimeline timeline = CallSetupMetrics.getInstance()
+                .startTimeline(call.getCallId(), CallTimeline.OUTGOING, System.nanoTime());
+        mCallModule = new CallModule(new VideoRendererPool(messenger, () -> null), new CallManager(), call,
+                new CallChannels(messenger, call.getCallId()), timeline);
+        mEndpoint = new FakeEndpoint("3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f");
+        mVideoStream = new FakeRemoteVideoStream("7a1c2e3f-4b5d-4e6f-8a9b-0c1d2e3f4a5b");
+
+        Voximplant.setMessenger(new FakeMessenger(executor));
+        mMessagingModule = new MessagingModule(messenger);
+        List<Map<String, Object>> payload = new ArrayList<>();
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("type", "reaction");
+        entry.put("value", 1);
+        payload.add(entry);
+        FakeMessage message = new FakeMessage("0b9c8d7e-6f5a-4b3c-2d1e-0f9a8b7c6d5e",
+                "3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f", "Hello", payload, 42);
+        mMessageEvent = new FakeMessageEvent(message, MessengerAction.SEND_MESSAGE, MessengerEventType.ON_SEND_MESSAGE);
+    }
+
+    @Benchmark
+    public void endpointInfoUpdated() {
+        mCallModule.onEndpointInfoUpdated(mEndpoint);
+    }
+
+    @Benchmark
+    public void startReceivingVideoStream() {
+        mCallModule.onStartReceivingVideoStream(mEndpoint, mVideoStream);
+    }
+
+    @Benchmark
+    public void stopReceivingVideoStream() {
+        mCallModule.onStopReceivingVideoStream(mEndpoint, mVideoStream, VideoStreamReceiveStopReason.MANUAL);
+    }
+
+    @Benchmark
+    public void sendMessage() {
+        mMessagingModule.onSendMessage(mMessageEvent);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Dispatch of single and batched calls through a router with the plugin's method names.
+ *
+ * {@link #legacyDispatch()} runs the same call through the type chain the plugin used before
+ * {@link MethodRouter}, for comparison with {@link #dispatch()}. metrics enables the latency
+ * collection of {@link MetricsModule}, which is off by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodRouterBenchmark {
+    private static final String[] METHODS = {
+            "Client.initClient", "Client.connect", "Client.disconnect", "Client.login", "Client.getClientState",
+            "Client.call", "Call.answerCall", "Call.hangupCall", "Call.holdCall", "Call.sendVideoForCall",
+            "Call.receiveVideoForCall", "Call.getCallDuration", "Call.currentQualityIssues",
+            "VideoStream.addVideoRenderer", "VideoStream.removeVideoRenderer",
+            "VideoStream.startReceivingRemoteVideoStream", "VideoStream.stopReceivingRemoteVideoStream",
+            "VideoStream.requestVideoSizeRemoteVideoStream", "AudioDevice.selectAudioDevice",
+            "Camera.selectCamera", "Messaging.sendMessage", "Messaging.getConversation", "Logger.configureFileLogger",
+    };
+    // Method types in the order the legacy onMethodCall checked them
+    private static final String[] LEGACY_TYPES = {
+            "Messaging", "Client", "Call", "VideoStream", "AudioDevice", "Camera", "AudioFile", "Logger",
+    };
+
+    @Param({"Messaging.sendMessage", "Client.getClientState", "VideoStream.addVideoRenderer",
+            "Logger.configureFileLogger"})
+    public String method;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private MethodRouter mRouter;
+    // Type -> method -> handler, stands for the switch each module had over its method names
+    private final Map<String, Map<String, MethodChannel.MethodCallHandler>> mLegacyModules = new HashMap<>();
+    private MethodCall mCall;
+    private MethodCall mUnknownCall;
+    private MethodCall mBatchCall;
+    private Blackhole mBlackhole;
+    private final MethodChannel.Result mResult = new MethodChannel.Result() {
+        @Override
+        public void success(Object result) {
+            mBlackhole.consume(result);
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            mBlackhole.consume(errorCode);
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    };
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mBlackhole = blackhole;
+        MetricsModule metricsModule = new MetricsModule();
+        metricsModule.setEnabled(metrics);
+        mRouter = new MethodRouter(metricsModule);
+        for (String method : METHODS) {
+            String[] parts = method.split("\\.");
+            mRouter.register(parts[0], parts[1], (call, result) -> result.success(null));
+            Map<String, MethodChannel.MethodCallHandler> module = mLegacyModules.get(parts[0]);
+            if (module == null) {
+                module = new HashMap<>();
+                mLegacyModules.put(parts[0], module);
+            }
+            module.put(parts[1], (call, result) -> result.success(null));
+        }
+        new BatchModule(mRouter).registerMethods(mRouter);
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("streamId", "3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f");
+        arguments.put("width", 640);
+        arguments.put("height", 360);
+        mCall = new MethodCall(method, arguments);
+        mUnknownCall = new MethodCall("VideoStream.unknown", arguments);
+
+        List<Object> entries = Arrays.asList(
+                entry("VideoStream.addVideoRenderer", arguments),
+                entry("VideoStream.startReceivingRemoteVideoStream", arguments),
+                entry("VideoStream.requestVideoSizeRemoteVideoStream", arguments));
+        mBatchCall = new MethodCall("Batch.execute", entries);
+    }
+
+    private static Map<String, Object> entry(String method, Object arguments) {
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("method", method);
+        entry.put("arguments", arguments);
+        return entry;
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return mRouter.dispatch(mCall, mResult);
+    }
+
+    /**
+     * The dispatch of VoximplantPlugin.onMethodCall before the method table: each type check
+     * splits the method name, and the call is re-wrapped without the type for the module.
+     */
+    @Benchmark
+    public boolean legacyDispatch() {
+        for (String type : LEGACY_TYPES) {
+            if (isMethodCallOfType(type, mCall)) {
+                MethodCall call = excludeMethodType(mCall);
+                MethodChannel.MethodCallHandler handler = mLegacyModules.get(type).get(call.method);
+                if (handler == null) {
+                    mResult.notImplemented();
+                    return false;
+                }
+                handler.onMethodCall(call, mResult);
+                return true;
+            }
+        }
+        mResult.notImplemented();
+        return false;
+    }
+
+    private static boolean isMethodCallOfType(String type, MethodCall call) {
+        String[] methodNameComponents = call.method.split(Pattern.quote("."));
+        return methodNameComponents.length > 0 && methodNameComponents[0].equals(type);
+    }
+
+    private static MethodCall excludeMethodType(MethodCall call) {
+        String[] methodNameComponents = call.method.split(Pattern.quote("."));
+        return new MethodCall(methodNameComponents.length > 0 ? methodNameComponents[1] : call.method, call.arguments);
+    }
+
+    @Benchmark
+    public boolean dispatchUnknown() {
+        return mRouter.dispatch(mUnknownCall, mResult);
+    }
+
+    @Benchmark
+    public boolean dispatchBatch() {
+        return mRouter.dispatch(mBatchCall, mResult);
+    }
+}
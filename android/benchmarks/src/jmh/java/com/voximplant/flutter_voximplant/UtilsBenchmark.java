@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.call.CallError;
+import com.voximplant.sdk.call.QualityIssue;
+import com.voximplant.sdk.call.QualityIssueLevel;
+import com.voximplant.sdk.call.VideoCodec;
+import com.voximplant.sdk.call.VideoStreamReceiveStopReason;
+import com.voximplant.sdk.call.VideoStreamType;
+import com.voximplant.sdk.client.Node;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SDK type conversions of {@link Utils} used when call events and method calls are handled.
+ * Fields keep the inputs from being constant folded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+    private String mVideoCodec = "H264";
+    private String mNode = "Node11";
+    private VideoStreamType mVideoStreamType = VideoStreamType.SCREEN_SHARING;
+    private VideoStreamReceiveStopReason mStopReason = VideoStreamReceiveStopReason.MANUAL;
+    private QualityIssueLevel mLevel = QualityIssueLevel.MAJOR;
+    private QualityIssue mIssue = QualityIssue.NO_VIDEO_RECEIVE;
+    private CallError mCallError = CallError.MISSING_PERMISSION;
+
+    @Benchmark
+    public VideoCodec stringToVideoCodec() {
+        return Utils.convertStringToVideoCodec(mVideoCodec);
+    }
+
+    @Benchmark
+    public Node stringToNode() {
+        return Utils.convertStringToNode(mNode);
+    }
+
+    @Benchmark
+    public int videoStreamTypeToInt() {
+        return Utils.convertVideoStreamTypeToInt(mVideoStreamType);
+    }
+
+    @Benchmark
+    public int videoStreamReceiveStopReasonToInt() {
+        return Utils.convertVideoStreamReceiveStopReasonToInt(mStopReason);
+    }
+
+    @Benchmark
+    public Integer qualityIssueLevelToInt() {
+        return Utils.convertQualityIssueLevelToInt(mLevel);
+    }
+
+    @Benchmark
+    public int qualityIssueToInt() {
+        return Utils.convertQualityIssueToInt(mIssue);
+    }
+
+    @Benchmark
+    public String callErrorToString() {
+        return Utils.convertCallErrorToString(mCallError);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.call.CallSettings;
+import com.voximplant.sdk.call.ICall;
+import com.voximplant.sdk.call.ICallCompletionHandler;
+import com.voximplant.sdk.call.ICallListener;
+import com.voximplant.sdk.call.IEndpoint;
+import com.voximplant.sdk.call.ILocalVideoStream;
+import com.voximplant.sdk.call.IQualityIssueListener;
+import com.voximplant.sdk.call.QualityIssue;
+import com.voximplant.sdk.call.QualityIssueLevel;
+import com.voximplant.sdk.call.RejectMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * SDK call fake. Endpoints join on the client executor, each with one remote video stream, and are
+ * reported to the call listeners like the SDK does.
+ */
+class FakeCall implements ICall {
+    private final String mCallId = UUID.randomUUID().toString();
+    private final Executor mExecutor;
+    private final List<ICallListener> mListeners = new CopyOnWriteArrayList<>();
+    private final List<IEndpoint> mEndpoints = new CopyOnWriteArrayList<>();
+
+    FakeCall(Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Adds an endpoint with one remote video stream on the client executor.
+     */
+    void addEndpoint(String endpointId, String videoStreamId) {
+        mExecutor.execute(() -> {
+            FakeEndpoint endpoint = new FakeEndpoint(endpointId);
+            mEndpoints.add(endpoint);
+            for (ICallListener listener : mListeners) {
+                listener.onEndpointAdded(this, endpoint);
+            }
+            endpoint.addVideoStream(new FakeRemoteVideoStream(videoStreamId));
+        });
+    }
+
+    /**
+     * Reports that the call has disconnected on the calling thread.
+     */
+    void disconnect() {
+        for (ICallListener listener : mListeners) {
+            listener.onCallDisconnected(this, Collections.emptyMap(), false);
+        }
+    }
+
+    @Override
+    public String getCallId() {
+        return mCallId;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void answer(CallSettings settings) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void reject(RejectMode mode, Map<String, String> headers) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void hangup(Map<String, String> headers) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendAudio(boolean enable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendVideo(boolean enable, ICallCompletionHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void receiveVideo(ICallCompletionHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void hold(boolean enable, ICallCompletionHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendInfo(String mimeType, String content, Map<String, String> headers) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendDTMF(String tone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getCallDuration() {
+        return 0;
+    }
+
+    @Override
+    public List<IEndpoint> getEndpoints() {
+        return new ArrayList<>(mEndpoints);
+    }
+
+    @Override
+    public List<ILocalVideoStream> getLocalVideoStreams() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<QualityIssue, QualityIssueLevel> getCurrentQualityIssues() {
+        return new HashMap<>();
+    }
+
+    @Override
+    public void addCallListener(ICallListener listener) {
+        mListeners.add(listener);
+    }
+
+    @Override
+    public void removeCallListener(ICallListener listener) {
+        mListeners.remove(listener);
+    }
+
+    @Override
+    public void setQualityIssueListener(IQualityIssueListener listener) {}
+}
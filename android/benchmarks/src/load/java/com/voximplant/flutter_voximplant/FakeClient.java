@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.call.CallSettings;
+import com.voximplant.sdk.call.ICall;
+import com.voximplant.sdk.client.ClientState;
+import com.voximplant.sdk.client.IClient;
+import com.voximplant.sdk.client.IClientIncomingCallListener;
+import com.voximplant.sdk.client.IClientLoginListener;
+import com.voximplant.sdk.client.IClientSessionListener;
+import com.voximplant.sdk.client.IPushTokenCompletionHandler;
+import com.voximplant.sdk.client.Node;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * SDK client fake that is logged in from the start. Calls and conferences are created as
+ * {@link FakeCall}s that report their events on the client executor.
+ */
+class FakeClient implements IClient {
+    private final Executor mExecutor;
+    private volatile FakeCall mLastCall;
+
+    FakeClient(Executor executor) {
+        mExecutor = executor;
+    }
+
+    FakeCall getLastCall() {
+        return mLastCall;
+    }
+
+    @Override
+    public ClientState getClientState() {
+        return ClientState.LOGGED_IN;
+    }
+
+    @Override
+    public void connect(Node node, boolean connectivityCheck, List<String> servers) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void disconnect() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void login(String username, String password) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void loginWithAccessToken(String username, String token) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void loginWithOneTimeKey(String username, String hash) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void requestOneTimeKey(String username) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void refreshToken(String username, String refreshToken) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ICall call(String number, CallSettings callSettings) {
+        mLastCall = new FakeCall(mExecutor);
+        return mLastCall;
+    }
+
+    @Override
+    public ICall callConference(String number, CallSettings callSettings) {
+        mLastCall = new FakeCall(mExecutor);
+        return mLastCall;
+    }
+
+    @Override
+    public void registerForPushNotifications(String pushToken, IPushTokenCompletionHandler completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void unregisterFromPushNotifications(String pushToken, IPushTokenCompletionHandler completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void handlePushNotification(Map<String, String> notification) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setClientSessionListener(IClientSessionListener listener) {}
+
+    @Override
+    public void setClientLoginListener(IClientLoginListener listener) {}
+
+    @Override
+    public void setClientIncomingCallListener(IClientIncomingCallListener listener) {}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.messaging.ConversationParticipant;
+import com.voximplant.sdk.messaging.IConversation;
+import com.voximplant.sdk.messaging.IConversationEvent;
+import com.voximplant.sdk.messaging.IConversationServiceEvent;
+import com.voximplant.sdk.messaging.IMessageEvent;
+import com.voximplant.sdk.messaging.IMessengerCompletionHandler;
+import com.voximplant.sdk.messaging.IMessengerListener;
+import com.voximplant.sdk.messaging.IRetransmitEvent;
+import com.voximplant.sdk.messaging.MessengerAction;
+import com.voximplant.sdk.messaging.MessengerEventType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * SDK conversation fake. A sent message completes on the messenger executor and is then reported
+ * to the messenger listeners, like the SDK reports the message event to all clients of the user.
+ */
+class FakeConversation implements IConversation {
+    private final String mUuid;
+    private final Executor mExecutor;
+    private final List<IMessengerListener> mListeners;
+    private long mLastSequence;
+
+    FakeConversation(String uuid, long lastSequence, Executor executor, List<IMessengerListener> listeners) {
+        mUuid = uuid;
+        mLastSequence = lastSequence;
+        mExecutor = executor;
+        mListeners = listeners;
+    }
+
+    @Override
+    public String getUUID() {
+        return mUuid;
+    }
+
+    @Override
+    public String getTitle() {
+        return null;
+    }
+
+    @Override
+    public boolean isDirect() {
+        return false;
+    }
+
+    @Override
+    public boolean isUber() {
+        return false;
+    }
+
+    @Override
+    public boolean isPublicJoin() {
+        return false;
+    }
+
+    @Override
+    public List<ConversationParticipant> getParticipants() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public long getCreatedTime() {
+        return 0;
+    }
+
+    @Override
+    public synchronized long getLastSequence() {
+        return mLastSequence;
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return 0;
+    }
+
+    @Override
+    public Map<String, Object> getCustomData() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public void addParticipants(List<ConversationParticipant> participants,
+                                IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void editParticipants(List<ConversationParticipant> participants,
+                                 IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeParticipants(List<ConversationParticipant> participants,
+                                   IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void update(IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markAsRead(long sequence, IMessengerCompletionHandler<IConversationServiceEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void typing(IMessengerCompletionHandler<IConversationServiceEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendMessage(String text, List<Map<String, Object>> payload,
+                            IMessengerCompletionHandler<IMessageEvent> completionHandler) {
+        mExecutor.execute(() -> {
+            long sequence;
+            synchronized (this) {
+                sequence = ++mLastSequence;
+            }
+            FakeMessage message = new FakeMessage(mUuid + "-" + sequence, mUuid, text, payload, sequence);
+            IMessageEvent event = new FakeMessageEvent(message, MessengerAction.SEND_MESSAGE,
+                    MessengerEventType.ON_SEND_MESSAGE);
+            if (completionHandler != null) {
+                completionHandler.onSuccess(event);
+            }
+            for (IMessengerListener listener : mListeners) {
+                listener.onSendMessage(event);
+            }
+        });
+    }
+
+    @Override
+    public void retransmitEvents(long from, long to, IMessengerCompletionHandler<IRetransmitEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void retransmitEventsFrom(long from, int count, IMessengerCompletionHandler<IRetransmitEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void retransmitEventsTo(long to, int count, IMessengerCompletionHandler<IRetransmitEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.call.IEndpoint;
+import com.voximplant.sdk.call.IEndpointListener;
+import com.voximplant.sdk.call.IRemoteVideoStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * SDK endpoint fake of a conference participant.
+ */
+class FakeEndpoint implements IEndpoint {
+    private final String mEndpointId;
+    private final List<IRemoteVideoStream> mVideoStreams = new CopyOnWriteArrayList<>();
+    private volatile IEndpointListener mListener;
+
+    FakeEndpoint(String endpointId) {
+        mEndpointId = endpointId;
+    }
+
+    void addVideoStream(IRemoteVideoStream videoStream) {
+        mVideoStreams.add(videoStream);
+        IEndpointListener listener = mListener;
+        if (listener != null) {
+            listener.onRemoteVideoStreamAdded(this, videoStream);
+        }
+    }
+
+    @Override
+    public String getEndpointId() {
+        return mEndpointId;
+    }
+
+    @Override
+    public String getUserName() {
+        return "user-" + mEndpointId;
+    }
+
+    @Override
+    public String getUserDisplayName() {
+        return "User " + mEndpointId;
+    }
+
+    @Override
+    public String getSipUri() {
+        return "sip:user-" + mEndpointId + "@voximplant.com";
+    }
+
+    @Override
+    public int getPlace() {
+        return 0;
+    }
+
+    @Override
+    public List<IRemoteVideoStream> getVideoStreams() {
+        return new ArrayList<>(mVideoStreams);
+    }
+
+    @Override
+    public void setEndpointListener(IEndpointListener listener) {
+        mListener = listener;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.messaging.IMessage;
+import com.voximplant.sdk.messaging.IMessageEvent;
+import com.voximplant.sdk.messaging.IMessengerCompletionHandler;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SDK message fake.
+ */
+class FakeMessage implements IMessage {
+    private final String mUuid;
+    private final String mConversation;
+    private final String mText;
+    private final List<Map<String, Object>> mPayload;
+    private final long mSequence;
+
+    FakeMessage(String uuid, String conversation, String text, List<Map<String, Object>> payload, long sequence) {
+        mUuid = uuid;
+        mConversation = conversation;
+        mText = text;
+        mPayload = payload;
+        mSequence = sequence;
+    }
+
+    @Override
+    public String getUUID() {
+        return mUuid;
+    }
+
+    @Override
+    public String getConversation() {
+        return mConversation;
+    }
+
+    @Override
+    public long getSequence() {
+        return mSequence;
+    }
+
+    @Override
+    public String getText() {
+        return mText;
+    }
+
+    @Override
+    public List<Map<String, Object>> getPayload() {
+        return mPayload;
+    }
+
+    @Override
+    public void update(String text, List<Map<String, Object>> payload,
+                       IMessengerCompletionHandler<IMessageEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(IMessengerCompletionHandler<IMessageEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+}
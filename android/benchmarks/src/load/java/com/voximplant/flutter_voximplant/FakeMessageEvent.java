@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.messaging.IMessage;
+import com.voximplant.sdk.messaging.IMessageEvent;
+import com.voximplant.sdk.messaging.MessengerAction;
+import com.voximplant.sdk.messaging.MessengerEventType;
+
+/**
+ * SDK message event fake of the user with IM id 1.
+ */
+class FakeMessageEvent implements IMessageEvent {
+    private final IMessage mMessage;
+    private final MessengerAction mAction;
+    private final MessengerEventType mType;
+    private final long mTimestamp = System.currentTimeMillis();
+
+    FakeMessageEvent(IMessage message, MessengerAction action, MessengerEventType type) {
+        mMessage = message;
+        mAction = action;
+        mType = type;
+    }
+
+    @Override
+    public IMessage getMessage() {
+        return mMessage;
+    }
+
+    @Override
+    public long getSequence() {
+        return mMessage.getSequence();
+    }
+
+    @Override
+    public long getTimestamp() {
+        return mTimestamp;
+    }
+
+    @Override
+    public long getIMUserId() {
+        return 1;
+    }
+
+    @Override
+    public MessengerAction getMessengerAction() {
+        return mAction;
+    }
+
+    @Override
+    public MessengerEventType getMessengerEventType() {
+        return mType;
+    }
+}
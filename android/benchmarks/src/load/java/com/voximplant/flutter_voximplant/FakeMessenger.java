@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.messaging.ConversationConfig;
+import com.voximplant.sdk.messaging.IConversation;
+import com.voximplant.sdk.messaging.IConversationEvent;
+import com.voximplant.sdk.messaging.IConversationListEvent;
+import com.voximplant.sdk.messaging.IMessage;
+import com.voximplant.sdk.messaging.IMessengerCompletionHandler;
+import com.voximplant.sdk.messaging.IMessenger;
+import com.voximplant.sdk.messaging.IMessengerListener;
+import com.voximplant.sdk.messaging.IStatusEvent;
+import com.voximplant.sdk.messaging.ISubscriptionEvent;
+import com.voximplant.sdk.messaging.IUserEvent;
+import com.voximplant.sdk.messaging.MessengerNotification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * SDK messenger fake. Only recreated conversations are supported, see {@link FakeConversation}.
+ */
+class FakeMessenger implements IMessenger {
+    private final Executor mExecutor;
+    private final List<IMessengerListener> mListeners = new CopyOnWriteArrayList<>();
+
+    FakeMessenger(Executor executor) {
+        mExecutor = executor;
+    }
+
+    @Override
+    public void addMessengerListener(IMessengerListener listener) {
+        mListeners.add(listener);
+    }
+
+    @Override
+    public void getUser(String username, IMessengerCompletionHandler<IUserEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getUser(long imUserId, IMessengerCompletionHandler<IUserEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getUsersByName(List<String> usernames, IMessengerCompletionHandler<List<IUserEvent>> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getUsersByIMId(List<Long> imUserIds, IMessengerCompletionHandler<List<IUserEvent>> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void editUser(Map<String, Object> customData, Map<String, Object> privateCustomData,
+                         IMessengerCompletionHandler<IUserEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void managePushNotifications(List<MessengerNotification> notifications,
+                                        IMessengerCompletionHandler<IUserEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setStatus(boolean online, IMessengerCompletionHandler<IStatusEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void subscribe(List<Long> imUserIds, IMessengerCompletionHandler<ISubscriptionEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void unsubscribe(List<Long> imUserIds, IMessengerCompletionHandler<ISubscriptionEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void unsubscribeFromAll(IMessengerCompletionHandler<ISubscriptionEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getSubscriptionList(IMessengerCompletionHandler<ISubscriptionEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void createConversation(ConversationConfig config, IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getConversations(List<String> uuids, IMessengerCompletionHandler<List<IConversationEvent>> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void getPublicConversations(IMessengerCompletionHandler<IConversationListEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void joinConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void leaveConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IConversation recreateConversation(ConversationConfig config, String uuid, long lastSequence,
+                                              long lastUpdateTime, long createdTime) {
+        return new FakeConversation(uuid, lastSequence, mExecutor, mListeners);
+    }
+
+    @Override
+    public IMessage recreateMessage(String uuid, String conversation, String text, List<Map<String, Object>> payload,
+                                    long sequence) {
+        return new FakeMessage(uuid, conversation, text, payload, sequence);
+    }
+}
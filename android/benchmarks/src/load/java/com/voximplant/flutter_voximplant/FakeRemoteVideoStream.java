@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import com.voximplant.sdk.call.IRemoteVideoStream;
+import com.voximplant.sdk.call.RenderScaleType;
+import com.voximplant.sdk.call.VideoStreamType;
+import com.voximplant.webrtc.VideoSink;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * SDK remote video stream fake that keeps its renderers and receiving state.
+ */
+class FakeRemoteVideoStream implements IRemoteVideoStream {
+    private final String mVideoStreamId;
+    private final List<VideoSink> mRenderers = new CopyOnWriteArrayList<>();
+    private volatile boolean mReceiving = true;
+
+    FakeRemoteVideoStream(String videoStreamId) {
+        mVideoStreamId = videoStreamId;
+    }
+
+    @Override
+    public String getVideoStreamId() {
+        return mVideoStreamId;
+    }
+
+    @Override
+    public VideoStreamType getVideoStreamType() {
+        return VideoStreamType.VIDEO;
+    }
+
+    @Override
+    public void addVideoRenderer(VideoSink renderer, RenderScaleType scaleType) {
+        mRenderers.add(renderer);
+    }
+
+    @Override
+    public void removeVideoRenderer(VideoSink renderer) {
+        mRenderers.remove(renderer);
+    }
+
+    @Override
+    public boolean isReceiving() {
+        return mReceiving;
+    }
+
+    @Override
+    public void startReceiving() {
+        mReceiving = true;
+    }
+
+    @Override
+    public void stopReceiving() {
+        mReceiving = false;
+    }
+
+    @Override
+    public void requestVideoSize(int width, int height) {}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.content.Context;
+import android.graphics.SurfaceTexture;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.voximplant.sdk.Voximplant;
+import com.voximplant.webrtc.SurfaceEglRenderer;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+import io.flutter.view.TextureRegistry;
+
+/**
+ * Drives a scripted conference through the plugin's dispatch path and reports throughput.
+ *
+ * The plugin modules are wired like VoximplantPlugin does: ClientModule, CallModule,
+ * MessagingModule, VideoRendererPool and BatchModule serve the calls, and the SDK behind them is
+ * replaced with fakes. The fake SDK reports endpoints, video streams and sent messages on its own
+ * threads, like the SDK does. Messaging calls are served on the main thread like the
+ * "plugins.voximplant.com/client" channel, or on a background task queue like the
+ * "plugins.voximplant.com/client_background" channel. Main thread busy time is the time spent in
+ * tasks posted to the main thread.
+ *
+ * The first renderers video streams get a VoximplantRenderer with a render thread. When the run
+ * ends, they are released in one main thread task: one by one with the blocking release the plugin
+ * used before releaseAsync, or by the call disconnect that recycles them with releaseAsync. The
+ * renderer pool is disabled, so every renderer is released. The render thread time of the EGL
+ * surface and context release is set with surfaceReleaseMs and eglReleaseMs. Script parameters are
+ * system properties: endpoints (100), messagesPerSecond (500), seconds (10), batch (true),
+ * channel (main), renderers (9), release (async), surfaceReleaseMs (5), eglReleaseMs (5).
+ */
+public class LoadDriver {
+    private static final String CONVERSATION = "3e4f0a6c-2b1d-4c8e-9f00-6a7b8c9d0e1f";
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final MethodRouter mRouter;
+    private final MethodRouter mBackgroundRouter;
+    private final CallManager mCallManager = new CallManager();
+    private final ExecutorService mTaskQueue = Executors.newSingleThreadExecutor();
+    private final ExecutorService mMessengerExecutor = Executors.newSingleThreadExecutor();
+    // Created by ClientModule on Client.initClient, the fake client reports call events on it
+    private volatile ExecutorService mClientExecutor;
+    private volatile FakeClient mClient;
+    private final AtomicLong mEvents = new AtomicLong();
+    private final AtomicLong mReplies = new AtomicLong();
+    private final AtomicLong mErrors = new AtomicLong();
+    private final BinaryMessenger mMessenger = new BinaryMessenger() {};
+    private final TextureRegistry mTextures = new TextureRegistry() {
+        private long mNextId;
+
+        @Override
+        public SurfaceTextureEntry createSurfaceTexture() {
+            long id = mNextId++;
+            SurfaceTexture surfaceTexture = new SurfaceTexture();
+            return new SurfaceTextureEntry() {
+                @Override
+                public SurfaceTexture surfaceTexture() {
+                    return surfaceTexture;
+                }
+
+                @Override
+                public long id() {
+                    return id;
+                }
+
+                @Override
+                public void release() {
+                }
+            };
+        }
+    };
+
+    private final MethodChannel.Result mResult = new MethodChannel.Result() {
+        @Override
+        public void success(Object result) {
+            mReplies.incrementAndGet();
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            mErrors.incrementAndGet();
+        }
+
+        @Override
+        public void notImplemented() {
+            mErrors.incrementAndGet();
+        }
+    };
+
+    private final EventChannel.EventSink mEventSink = new EventChannel.EventSink() {
+        @Override
+        public void success(Object event) {
+            mEvents.incrementAndGet();
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            mErrors.incrementAndGet();
+        }
+
+        @Override
+        public void endOfStream() {
+        }
+    };
+
+    public static void main(String[] args) throws InterruptedException {
+        int endpoints = Integer.getInteger("endpoints", 100);
+        int messagesPerSecond = Integer.getInteger("messagesPerSecond", 500);
+        int seconds = Integer.getInteger("seconds", 10);
+        boolean batch = Boolean.parseBoolean(System.getProperty("batch", "true"));
+        boolean background = System.getProperty("channel", "main").equals("background");
+        int renderers = Integer.getInteger("renderers", 9);
+        boolean releaseAsync = !System.getProperty("release", "async").equals("blocking");
+        SurfaceEglRenderer.setReleaseCosts(Long.getLong("surfaceReleaseMs", 5), Long.getLong("eglReleaseMs", 5));
+        LoadDriver driver = new LoadDriver();
+        driver.warmUp(batch, releaseAsync);
+        FakeCall call = driver.run(endpoints, renderers, messagesPerSecond, seconds, batch, background);
+        driver.releaseRenderers(call, releaseAsync);
+        driver.shutdown();
+    }
+
+    private LoadDriver() {
+        Voximplant.setMessenger(new FakeMessenger(mMessengerExecutor));
+        Voximplant.setClientFactory(executor -> {
+            mClientExecutor = (ExecutorService) executor;
+            mClient = new FakeClient(executor);
+            return mClient;
+        });
+        VideoRendererPool rendererPool = new VideoRendererPool(mMessenger, mTextures);
+        ClientModule clientModule = new ClientModule(mMessenger, new Context() {}, rendererPool, mCallManager);
+        MessagingModule messagingModule = new MessagingModule(mMessenger);
+
+        MetricsModule metricsModule = new MetricsModule();
+        mRouter = new MethodRouter(metricsModule);
+        messagingModule.registerMethods(mRouter);
+        clientModule.registerMethods(mRouter);
+        CallModule.registerMethods(mRouter, mCallManager);
+        rendererPool.registerMethods(mRouter);
+        new BatchModule(mRouter).registerMethods(mRouter);
+        mBackgroundRouter = new MethodRouter(metricsModule);
+        messagingModule.registerMethods(mBackgroundRouter);
+        new BatchModule(mBackgroundRouter).registerMethods(mBackgroundRouter);
+        listen("plugins.voximplant.com/messaging", null);
+
+        dispatch(new MethodCall("Client.initClient", new HashMap<>()), false);
+        // Recycled renderers are released instead of pooled. The Handler stand-in would also run
+        // the delayed eviction of pooled renderers right away, again and again.
+        Map<String, Object> pool = new HashMap<>();
+        pool.put("maxSize", 0);
+        pool.put("idleTimeout", 0);
+        dispatch(new MethodCall("VideoStream.setRendererPool", pool), false);
+    }
+
+    private void listen(String channel, Object arguments) {
+        EventChannel.getStreamHandler(channel).onListen(arguments, mEventSink);
+    }
+
+    private void dispatch(MethodCall call, boolean background) {
+        if (background) {
+            mTaskQueue.execute(() -> mBackgroundRouter.dispatch(call, mResult));
+        } else {
+            mHandler.post(() -> mRouter.dispatch(call, mResult));
+        }
+    }
+
+    private FakeCall startCall() {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("number", "conference");
+        arguments.put("conference", true);
+        arguments.put("receiveVideo", true);
+        dispatch(new MethodCall("Client.call", arguments), false);
+        FakeCall call = mClient.getLastCall();
+        String channel = "plugins.voximplant.com/call_" + call.getCallId();
+        listen(channel, channel);
+        return call;
+    }
+
+    // Runs the call, messaging and release paths once first, so the measurements do not include
+    // class loading
+    private void warmUp(boolean batch, boolean releaseAsync) throws InterruptedException {
+        FakeCall call = startCall();
+        joinEndpoint(call, 0, batch, true);
+        dispatch(newMessage(0, new ArrayList<>()), false);
+        drain(mMessengerExecutor);
+        release(call, releaseAsync);
+        mEvents.set(0);
+        mReplies.set(0);
+        mErrors.set(0);
+    }
+
+    private FakeCall run(int endpoints, int renderers, int messagesPerSecond, int seconds, boolean batch,
+                         boolean background) throws InterruptedException {
+        long startBytes = allocatedBytes();
+        long startPosts = Handler.getPostCount();
+        long start = System.nanoTime();
+
+        FakeCall call = startCall();
+        long calls = 1;
+        for (int i = 0; i < endpoints; i++) {
+            calls += joinEndpoint(call, i, batch, i < renderers);
+        }
+        long messagesStartNanos = Handler.getPostNanos();
+        List<Object> payload = new ArrayList<>();
+        payload.add(new HashMap<>());
+        long tick = TimeUnit.SECONDS.toNanos(1) / Math.max(messagesPerSecond, 1);
+        long next = System.nanoTime();
+        for (long i = 0, total = (long) messagesPerSecond * seconds; i < total; i++) {
+            dispatch(newMessage(i, payload), background);
+            calls++;
+            next += tick;
+            long delay = next - System.nanoTime();
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+        }
+
+        drain(mTaskQueue);
+        drain(mMessengerExecutor);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        long posts = Handler.getPostCount() - startPosts;
+        long messagesBusy = Handler.getPostNanos() - messagesStartNanos;
+        long messages = (long) messagesPerSecond * seconds;
+        long bytes = allocatedBytes() - startBytes;
+        System.out.printf("endpoints=%d messagesPerSecond=%d seconds=%d batch=%b channel=%s%n",
+                endpoints, messagesPerSecond, seconds, batch, background ? "background" : "main");
+        System.out.printf("elapsed: %.2f s, channel calls: %d, replies: %d, errors: %d%n",
+                elapsed, calls, mReplies.get(), mErrors.get());
+        System.out.printf("calls/s: %.0f, events/s: %.0f, main thread posts/s: %.0f, allocated: %d B/call%n",
+                calls / elapsed, mEvents.get() / elapsed, posts / elapsed, calls > 0 ? bytes / calls : 0);
+        System.out.printf("main thread busy during messages: %.1f ms, %.2f us/message%n",
+                messagesBusy / 1e6, messages > 0 ? messagesBusy / 1e3 / messages : 0);
+        return call;
+    }
+
+    private static MethodCall newMessage(long index, List<Object> payload) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("conversation", CONVERSATION);
+        arguments.put("text", "message " + index);
+        arguments.put("payload", payload);
+        return new MethodCall("Messaging.sendMessage", arguments);
+    }
+
+    /**
+     * Adds an endpoint with a video stream to the call and requests the stream the way a video
+     * view of the app does.
+     *
+     * @return the number of channel calls made
+     */
+    private long joinEndpoint(FakeCall call, int index, boolean batch, boolean render) throws InterruptedException {
+        String streamId = call.getCallId() + "-stream-" + index;
+        call.addEndpoint(call.getCallId() + "-endpoint-" + index, streamId);
+        // The stream is added to the call on the main thread task posted from the SDK thread
+        drain(mClientExecutor);
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("streamId", streamId);
+        arguments.put("width", 640);
+        arguments.put("height", 360);
+        List<String> methods = new ArrayList<>();
+        if (render) {
+            methods.add("VideoStream.addVideoRenderer");
+        }
+        methods.add("VideoStream.startReceivingRemoteVideoStream");
+        methods.add("VideoStream.requestVideoSizeRemoteVideoStream");
+        if (!batch) {
+            for (String method : methods) {
+                dispatch(new MethodCall(method, arguments), false);
+            }
+            return methods.size();
+        }
+        List<Object> entries = new ArrayList<>();
+        for (String method : methods) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("method", method);
+            entry.put("arguments", arguments);
+            entries.add(entry);
+        }
+        dispatch(new MethodCall("Batch.execute", entries), false);
+        return 1;
+    }
+
+    private void releaseRenderers(FakeCall call, boolean async) {
+        int renderers = SurfaceEglRenderer.getLiveCount();
+        if (renderers == 0) {
+            call.disconnect();
+            return;
+        }
+        long[] times = release(call, async);
+        System.out.printf("renderer release: %d renderers, %s, main thread stall: %.2f ms, released after: %.2f ms%n",
+                renderers, async ? "async" : "blocking", times[0] / 1e6, times[1] / 1e6);
+    }
+
+    /**
+     * Releases the renderers of the call in one main thread task and ends the call.
+     *
+     * @return the nanoseconds until the task has finished and until all renderers are released
+     */
+    private long[] release(FakeCall call, boolean async) {
+        long[] times = new long[2];
+        long start = System.nanoTime();
+        mHandler.post(() -> {
+            if (async) {
+                // CallModule releases the call on the main thread and recycles its renderers
+                call.disconnect();
+            } else {
+                for (VoximplantRenderer renderer : findCall(call.getCallId()).detachRenderers()) {
+                    releaseBlocking(renderer.getRenderer());
+                }
+            }
+            times[0] = System.nanoTime() - start;
+        });
+        while (SurfaceEglRenderer.getLiveCount() > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+        times[1] = System.nanoTime() - start;
+        if (!async) {
+            call.disconnect();
+        }
+        return times;
+    }
+
+    private CallModule findCall(String callId) {
+        for (CallModule callModule : mCallManager.getCalls()) {
+            if (callModule.getCallId().equals(callId)) {
+                return callModule;
+            }
+        }
+        throw new IllegalStateException("No call " + callId);
+    }
+
+    // VoximplantRenderer.release before releaseAsync
+    private static void releaseBlocking(SurfaceEglRenderer renderer) {
+        CountDownLatch completionLatch = new CountDownLatch(1);
+        renderer.releaseEglSurface(completionLatch::countDown);
+        try {
+            completionLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        renderer.release();
+    }
+
+    private void shutdown() {
+        mTaskQueue.shutdown();
+        mMessengerExecutor.shutdown();
+        mClientExecutor.shutdown();
+    }
+
+    private static void drain(ExecutorService executor) throws InterruptedException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Bytes allocated by all live threads, the driver, task queue and SDK threads
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytes = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            bytes += Math.max(allocated, 0);
+        }
+        return bytes;
+    }
+}
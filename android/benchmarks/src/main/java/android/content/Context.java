@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.content;
+
+/**
+ * JVM stand-in for Context.
+ */
+public abstract class Context {
+}
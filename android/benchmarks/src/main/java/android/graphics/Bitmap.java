@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.graphics;
+
+/**
+ * JVM stand-in for Bitmap.
+ */
+public final class Bitmap {
+    private Bitmap() {}
+}
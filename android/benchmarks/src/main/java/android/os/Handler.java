@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.os;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM stand-in for Handler that runs posted tasks immediately on the calling thread, delayed ones
+ * too. Counts posts and the time spent running them, so load runs can report main thread traffic
+ * and busy time. Time of a post made from a running post is only counted once.
+ */
+public class Handler {
+    private static final AtomicLong sPostCount = new AtomicLong();
+    private static final AtomicLong sPostNanos = new AtomicLong();
+    private static final ThreadLocal<boolean[]> sRunning = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    public Handler(Looper looper) {}
+
+    public static long getPostCount() {
+        return sPostCount.get();
+    }
+
+    public static long getPostNanos() {
+        return sPostNanos.get();
+    }
+
+    public final boolean post(Runnable r) {
+        sPostCount.incrementAndGet();
+        boolean[] running = sRunning.get();
+        if (running[0]) {
+            r.run();
+            return true;
+        }
+        running[0] = true;
+        long start = System.nanoTime();
+        try {
+            r.run();
+        } finally {
+            sPostNanos.addAndGet(System.nanoTime() - start);
+            running[0] = false;
+        }
+        return true;
+    }
+
+    public final boolean postDelayed(Runnable r, long delayMillis) {
+        return post(r);
+    }
+
+    public final void removeCallbacks(Runnable r) {}
+}
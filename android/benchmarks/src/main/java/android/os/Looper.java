@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.os;
+
+/**
+ * JVM stand-in for the Android main looper.
+ */
+public final class Looper {
+    private static final Looper sMainLooper = new Looper();
+
+    private Looper() {}
+
+    public static Looper getMainLooper() {
+        return sMainLooper;
+    }
+}
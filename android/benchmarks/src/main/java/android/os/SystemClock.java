@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.os;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM stand-in for SystemClock backed by the monotonic JVM clock.
+ */
+public final class SystemClock {
+    private SystemClock() {}
+
+    public static long elapsedRealtime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package android.view;
+
+/**
+ * JVM stand-in for Choreographer that runs frame callbacks immediately on the calling thread.
+ */
+public final class Choreographer {
+    private static final Choreographer sInstance = new Choreographer();
+
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+
+    private Choreographer() {}
+
+    public static Choreographer getInstance() {
+        return sInstance;
+    }
+
+    public void postFrameCallback(FrameCallback callback) {
+        callback.doFrame(System.nanoTime());
+    }
+
+    public void removeFrameCallback(FrameCallback callback) {}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk;
+
+import android.content.Context;
+
+import com.voximplant.sdk.client.ClientConfig;
+import com.voximplant.sdk.client.ClientException;
+import com.voximplant.sdk.client.IClient;
+import com.voximplant.sdk.messaging.IMessenger;
+
+import java.util.concurrent.Executor;
+
+/**
+ * JVM stand-in for the SDK entry point. The client and the messenger are fakes set by the JVM runs.
+ */
+public class Voximplant {
+    private static volatile ClientFactory sClientFactory;
+    private static volatile IMessenger sMessenger;
+
+    public interface ClientFactory {
+        IClient create(Executor executor);
+    }
+
+    private Voximplant() {}
+
+    /**
+     * Sets the factory of the client returned by {@link #getClientInstance}.
+     */
+    public static void setClientFactory(ClientFactory factory) {
+        sClientFactory = factory;
+    }
+
+    /**
+     * Sets the messenger returned by {@link #getMessenger}.
+     */
+    public static void setMessenger(IMessenger messenger) {
+        sMessenger = messenger;
+    }
+
+    public static IClient getClientInstance(Executor executor, Context context, ClientConfig config) throws ClientException {
+        ClientFactory factory = sClientFactory;
+        if (factory == null) {
+            throw new ClientException("No client factory is set");
+        }
+        return factory.create(executor);
+    }
+
+    public static IMessenger getMessenger() {
+        return sMessenger;
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK CallError.
+ */
+public enum CallError {
+    INCORRECT_OPERATION,
+    MISSING_PERMISSION,
+    INTERNAL_ERROR,
+    REJECTED,
+    TIMEOUT,
+    MEDIA_IS_ON_HOLD,
+    ALREADY_IN_THIS_STATE,
+    FUNCTIONALITY_IS_DISABLED,
+    RECONNECTING
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK CallException.
+ */
+public class CallException extends Exception {
+    private final CallError mErrorCode;
+
+    public CallException(CallError errorCode, String message) {
+        super(message);
+        mErrorCode = errorCode;
+    }
+
+    public CallError getErrorCode() {
+        return mErrorCode;
+    }
+}
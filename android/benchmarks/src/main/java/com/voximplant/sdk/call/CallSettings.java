@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK CallSettings.
+ */
+public class CallSettings {
+    public String customData;
+    public Map<String, String> extraHeaders;
+    public VideoFlags videoFlags;
+    public VideoCodec preferredVideoCodec;
+}
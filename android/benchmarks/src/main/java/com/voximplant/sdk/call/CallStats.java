@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK CallStats.
+ */
+public class CallStats {
+    public long timestamp;
+    public double availableIncomingBitrate;
+    public double availableOutgoingBitrate;
+    public double rtt;
+    public long totalPacketsLost;
+    public double fractionLost;
+    public long totalPacketsSent;
+    public long totalBytesSent;
+    public long totalPacketsReceived;
+    public long totalBytesReceived;
+    public String localCandidateType;
+    public String remoteCandidateType;
+    public Map<String, OutboundVideoStats> localVideoStats;
+    public Map<String, OutboundAudioStats> localAudioStats;
+    public Map<String, EndpointStats> endpointStats;
+}
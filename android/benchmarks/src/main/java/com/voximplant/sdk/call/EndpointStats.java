@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK EndpointStats.
+ */
+public class EndpointStats {
+    public Map<String, InboundVideoStats> remoteVideoStats;
+    public Map<String, InboundAudioStats> remoteAudioStats;
+}
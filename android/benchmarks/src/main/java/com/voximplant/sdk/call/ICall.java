@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK ICall.
+ */
+public interface ICall {
+    String getCallId();
+
+    void start() throws CallException;
+
+    void answer(CallSettings settings) throws CallException;
+
+    void reject(RejectMode mode, Map<String, String> headers) throws CallException;
+
+    void hangup(Map<String, String> headers);
+
+    void sendAudio(boolean enable);
+
+    void sendVideo(boolean enable, ICallCompletionHandler handler);
+
+    void receiveVideo(ICallCompletionHandler handler);
+
+    void hold(boolean enable, ICallCompletionHandler handler);
+
+    void sendMessage(String message);
+
+    void sendInfo(String mimeType, String content, Map<String, String> headers);
+
+    void sendDTMF(String tone);
+
+    long getCallDuration();
+
+    List<IEndpoint> getEndpoints();
+
+    List<ILocalVideoStream> getLocalVideoStreams();
+
+    Map<QualityIssue, QualityIssueLevel> getCurrentQualityIssues();
+
+    void addCallListener(ICallListener listener);
+
+    void removeCallListener(ICallListener listener);
+
+    void setQualityIssueListener(IQualityIssueListener listener);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK ICallListener.
+ */
+public interface ICallListener {
+    default void onCallConnected(ICall call, Map<String, String> headers) {}
+
+    default void onCallDisconnected(ICall call, Map<String, String> headers, boolean answeredElsewhere) {}
+
+    default void onCallRinging(ICall call, Map<String, String> headers) {}
+
+    default void onCallFailed(ICall call, int code, String description, Map<String, String> headers) {}
+
+    default void onCallAudioStarted(ICall call) {}
+
+    default void onSIPInfoReceived(ICall call, String type, String content, Map<String, String> headers) {}
+
+    default void onMessageReceived(ICall call, String text) {}
+
+    default void onLocalVideoStreamAdded(ICall call, ILocalVideoStream videoStream) {}
+
+    default void onLocalVideoStreamRemoved(ICall call, ILocalVideoStream videoStream) {}
+
+    default void onICETimeout(ICall call) {}
+
+    default void onICECompleted(ICall call) {}
+
+    default void onEndpointAdded(ICall call, IEndpoint endpoint) {}
+
+    default void onCallStatsReceived(ICall call, CallStats callStats) {}
+
+    default void onCallReconnecting(ICall call) {}
+
+    default void onCallReconnected(ICall call) {}
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the SDK IEndpoint.
+ */
+public interface IEndpoint {
+    String getEndpointId();
+
+    String getUserName();
+
+    String getUserDisplayName();
+
+    String getSipUri();
+
+    int getPlace();
+
+    List<IRemoteVideoStream> getVideoStreams();
+
+    void setEndpointListener(IEndpointListener listener);
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK IEndpointListener.
+ */
+public interface IEndpointListener {
+    default void onRemoteVideoStreamAdded(IEndpoint endpoint, IRemoteVideoStream videoStream) {}
+
+    default void onRemoteVideoStreamRemoved(IEndpoint endpoint, IRemoteVideoStream videoStream) {}
+
+    default void onEndpointRemoved(IEndpoint endpoint) {}
+
+    default void onEndpointInfoUpdated(IEndpoint endpoint) {}
+
+    default void onVoiceActivityStarted(IEndpoint endpoint) {}
+
+    default void onVoiceActivityStopped(IEndpoint endpoint) {}
+
+    default void onStartReceivingVideoStream(IEndpoint endpoint, IRemoteVideoStream videoStream) {}
+
+    default void onStopReceivingVideoStream(IEndpoint endpoint, IRemoteVideoStream videoStream, VideoStreamReceiveStopReason reason) {}
+}
@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK ILocalVideoStream.
+ */
+public interface ILocalVideoStream extends IVideoStream {
+}
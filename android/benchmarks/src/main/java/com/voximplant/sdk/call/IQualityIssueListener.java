@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK IQualityIssueListener.
+ */
+public interface IQualityIssueListener {
+    default void onPacketLoss(ICall call, QualityIssueLevel level, double packetLoss) {}
+
+    default void onCodecMismatch(ICall call, QualityIssueLevel level, String sendCodec) {}
+
+    default void onLocalVideoDegradation(ICall call, QualityIssueLevel level, int targetWidth, int targetHeight, int actualWidth, int actualHeight) {}
+
+    default void onIceDisconnected(ICall call, QualityIssueLevel level) {}
+
+    default void onHighMediaLatency(ICall call, QualityIssueLevel level, double latency) {}
+
+    default void onNoAudioSignal(ICall call, QualityIssueLevel level) {}
+
+    default void onNoAudioReceive(ICall call, QualityIssueLevel level, IRemoteAudioStream audioStream, IEndpoint endpoint) {}
+
+    default void onNoVideoReceive(ICall call, QualityIssueLevel level, IRemoteVideoStream videoStream, IEndpoint endpoint) {}
+}
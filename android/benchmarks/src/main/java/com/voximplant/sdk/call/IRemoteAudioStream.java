@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK IRemoteAudioStream.
+ */
+public interface IRemoteAudioStream {
+    String getAudioStreamId();
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK IRemoteVideoStream.
+ */
+public interface IRemoteVideoStream extends IVideoStream {
+    boolean isReceiving();
+
+    void startReceiving();
+
+    void stopReceiving();
+
+    void requestVideoSize(int width, int height);
+}
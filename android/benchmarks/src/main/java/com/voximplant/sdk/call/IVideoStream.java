@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+import com.voximplant.webrtc.VideoSink;
+
+/**
+ * JVM stand-in for the SDK IVideoStream.
+ */
+public interface IVideoStream {
+    String getVideoStreamId();
+
+    VideoStreamType getVideoStreamType();
+
+    void addVideoRenderer(VideoSink renderer, RenderScaleType scaleType);
+
+    void removeVideoRenderer(VideoSink renderer);
+}
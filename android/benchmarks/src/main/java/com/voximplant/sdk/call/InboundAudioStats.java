@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK InboundAudioStats.
+ */
+public class InboundAudioStats {
+    public long bytesReceived;
+    public long packetsReceived;
+    public long packetsLost;
+    public double fractionLost;
+    public double jitterBufferMs;
+    public double audioLevel;
+    public String codec;
+}
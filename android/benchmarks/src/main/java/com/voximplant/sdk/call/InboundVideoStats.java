@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK InboundVideoStats.
+ */
+public class InboundVideoStats {
+    public long bytesReceived;
+    public long packetsReceived;
+    public long packetsLost;
+    public double fractionLost;
+    public int frameWidth;
+    public int frameHeight;
+    public double fps;
+    public double jitterBufferMs;
+    public String codec;
+}
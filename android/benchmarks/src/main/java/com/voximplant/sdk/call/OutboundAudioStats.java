@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK OutboundAudioStats.
+ */
+public class OutboundAudioStats {
+    public long bytesSent;
+    public long packetsSent;
+    public double audioLevel;
+    public String codec;
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK OutboundVideoStats.
+ */
+public class OutboundVideoStats {
+    public long bytesSent;
+    public long packetsSent;
+    public int frameWidth;
+    public int frameHeight;
+    public double fps;
+    public String codec;
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK QualityIssue.
+ */
+public enum QualityIssue {
+    CODEC_MISMATCH,
+    LOCAL_VIDEO_DEGRADATION,
+    HIGH_MEDIA_LATENCY,
+    ICE_DISCONNECTED,
+    NO_AUDIO_SIGNAL,
+    PACKET_LOSS,
+    NO_AUDIO_RECEIVE,
+    NO_VIDEO_RECEIVE
+}
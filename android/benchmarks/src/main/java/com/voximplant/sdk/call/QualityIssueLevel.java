@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK QualityIssueLevel.
+ */
+public enum QualityIssueLevel {
+    NONE,
+    MINOR,
+    MAJOR,
+    CRITICAL
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK VideoCodec.
+ */
+public enum VideoCodec {
+    VP8,
+    H264,
+    AUTO
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK VideoFlags.
+ */
+public class VideoFlags {
+    public boolean receiveVideo;
+    public boolean sendVideo;
+
+    public VideoFlags(boolean receiveVideo, boolean sendVideo) {
+        this.receiveVideo = receiveVideo;
+        this.sendVideo = sendVideo;
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.call;
+
+/**
+ * JVM stand-in for the SDK VideoStreamReceiveStopReason.
+ */
+public enum VideoStreamReceiveStopReason {
+    AUTOMATIC,
+    MANUAL
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK AuthParams.
+ */
+public class AuthParams {
+    public String getAccessToken() {
+        return null;
+    }
+
+    public long getAccessTokenTimeExpired() {
+        return 0;
+    }
+
+    public String getRefreshToken() {
+        return null;
+    }
+
+    public long getRefreshTokenTimeExpired() {
+        return 0;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+import com.voximplant.webrtc.EglBase;
+
+/**
+ * JVM stand-in for the SDK ClientConfig.
+ */
+public class ClientConfig {
+    public EglBase eglBase;
+    public String packageName;
+    public boolean enableDebugLogging;
+    public boolean enableLogcatLogging;
+    public RequestAudioFocusMode requestAudioFocusMode;
+    public boolean forceRelayTraffic;
+}
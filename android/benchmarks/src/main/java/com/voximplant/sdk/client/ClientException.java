@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK ClientException.
+ */
+public class ClientException extends Exception {
+    public ClientException(String message) {
+        super(message);
+    }
+}
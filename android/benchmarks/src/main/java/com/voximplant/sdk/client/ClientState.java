@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK ClientState.
+ */
+public enum ClientState {
+    DISCONNECTED,
+    CONNECTING,
+    CONNECTED,
+    LOGGING_IN,
+    LOGGED_IN,
+    RECONNECTING
+}
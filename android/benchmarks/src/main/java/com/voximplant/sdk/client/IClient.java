@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+import com.voximplant.sdk.call.CallSettings;
+import com.voximplant.sdk.call.ICall;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IClient.
+ */
+public interface IClient {
+    ClientState getClientState();
+
+    void connect(Node node, boolean connectivityCheck, List<String> servers);
+
+    void disconnect();
+
+    void login(String username, String password);
+
+    void loginWithAccessToken(String username, String token);
+
+    void loginWithOneTimeKey(String username, String hash);
+
+    void requestOneTimeKey(String username);
+
+    void refreshToken(String username, String refreshToken);
+
+    ICall call(String number, CallSettings callSettings);
+
+    ICall callConference(String number, CallSettings callSettings);
+
+    void registerForPushNotifications(String pushToken, IPushTokenCompletionHandler completionHandler);
+
+    void unregisterFromPushNotifications(String pushToken, IPushTokenCompletionHandler completionHandler);
+
+    void handlePushNotification(Map<String, String> notification);
+
+    void setClientSessionListener(IClientSessionListener listener);
+
+    void setClientLoginListener(IClientLoginListener listener);
+
+    void setClientIncomingCallListener(IClientIncomingCallListener listener);
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+import com.voximplant.sdk.call.ICall;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IClientIncomingCallListener.
+ */
+public interface IClientIncomingCallListener {
+    void onIncomingCall(ICall call, boolean video, Map<String, String> headers);
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK IClientLoginListener.
+ */
+public interface IClientLoginListener {
+    void onLoginSuccessful(String displayName, AuthParams authParams);
+
+    void onLoginFailed(LoginError loginError);
+
+    void onRefreshTokenSuccess(AuthParams authParams);
+
+    void onRefreshTokenFailed(LoginError loginError);
+
+    void onOneTimeKeyGenerated(String key);
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK IClientSessionListener.
+ */
+public interface IClientSessionListener {
+    void onConnectionEstablished();
+
+    void onConnectionFailed(String error);
+
+    void onConnectionClosed();
+
+    void onReconnecting();
+
+    void onReconnected();
+}
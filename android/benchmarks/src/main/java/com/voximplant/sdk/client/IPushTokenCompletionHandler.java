@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK IPushTokenCompletionHandler, the plugin passes no handler.
+ */
+public interface IPushTokenCompletionHandler {
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK LoginError.
+ */
+public enum LoginError {
+    INVALID_PASSWORD,
+    MAU_ACCESS_DENIED,
+    ACCOUNT_FROZEN,
+    INVALID_USERNAME,
+    TIMEOUT,
+    INVALID_STATE,
+    NETWORK_ISSUES,
+    TOKEN_EXPIRED,
+    INTERNAL_ERROR
+}
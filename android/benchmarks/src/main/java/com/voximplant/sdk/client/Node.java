@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK Node.
+ */
+public enum Node {
+    NODE_1,
+    NODE_2,
+    NODE_3,
+    NODE_4,
+    NODE_5,
+    NODE_6,
+    NODE_7,
+    NODE_8,
+    NODE_9,
+    NODE_10,
+    NODE_11,
+    NODE_12,
+    NODE_13
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.client;
+
+/**
+ * JVM stand-in for the SDK RequestAudioFocusMode.
+ */
+public enum RequestAudioFocusMode {
+    REQUEST_ON_CALL_START,
+    REQUEST_ON_CALL_CONNECTED
+}
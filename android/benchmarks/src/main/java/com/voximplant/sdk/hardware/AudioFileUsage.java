@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.hardware;
+
+/**
+ * JVM stand-in for the SDK AudioFileUsage.
+ */
+public enum AudioFileUsage {
+    IN_CALL,
+    NOTIFICATION,
+    RINGTONE,
+    UNKNOWN
+}
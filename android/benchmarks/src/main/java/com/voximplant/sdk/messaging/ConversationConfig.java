@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK ConversationConfig, the configuration is not kept.
+ */
+public class ConversationConfig {
+    private ConversationConfig() {}
+
+    public static ConversationConfigBuilder createBuilder() {
+        return new ConversationConfigBuilder();
+    }
+
+    public static class ConversationConfigBuilder {
+        public ConversationConfigBuilder setTitle(String title) {
+            return this;
+        }
+
+        public ConversationConfigBuilder setCustomData(Map<String, Object> customData) {
+            return this;
+        }
+
+        public ConversationConfigBuilder setPublicJoin(boolean publicJoin) {
+            return this;
+        }
+
+        public ConversationConfigBuilder setDirect(boolean direct) {
+            return this;
+        }
+
+        public ConversationConfigBuilder setUber(boolean uber) {
+            return this;
+        }
+
+        public ConversationConfigBuilder setParticipants(List<ConversationParticipant> participants) {
+            return this;
+        }
+
+        public ConversationConfig build() {
+            return new ConversationConfig();
+        }
+    }
+}
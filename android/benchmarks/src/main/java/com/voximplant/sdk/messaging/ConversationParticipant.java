@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK ConversationParticipant.
+ */
+public class ConversationParticipant {
+    private final long mIMUserId;
+    private boolean mOwner;
+    private boolean mCanWrite;
+    private boolean mCanEditMessages;
+    private boolean mCanEditAllMessages;
+    private boolean mCanRemoveMessages;
+    private boolean mCanRemoveAllMessages;
+    private boolean mCanManageParticipants;
+
+    public ConversationParticipant(long imUserId) {
+        mIMUserId = imUserId;
+    }
+
+    public long getIMUserId() {
+        return mIMUserId;
+    }
+
+    public long getLastReadEventSequence() {
+        return 0;
+    }
+
+    public boolean isOwner() {
+        return mOwner;
+    }
+
+    public ConversationParticipant setOwner(boolean value) {
+        mOwner = value;
+        return this;
+    }
+
+    public boolean canWrite() {
+        return mCanWrite;
+    }
+
+    public ConversationParticipant setCanWrite(boolean value) {
+        mCanWrite = value;
+        return this;
+    }
+
+    public boolean canEditMessages() {
+        return mCanEditMessages;
+    }
+
+    public ConversationParticipant setCanEditMessages(boolean value) {
+        mCanEditMessages = value;
+        return this;
+    }
+
+    public boolean canEditAllMessages() {
+        return mCanEditAllMessages;
+    }
+
+    public ConversationParticipant setCanEditAllMessages(boolean value) {
+        mCanEditAllMessages = value;
+        return this;
+    }
+
+    public boolean canRemoveMessages() {
+        return mCanRemoveMessages;
+    }
+
+    public ConversationParticipant setCanRemoveMessages(boolean value) {
+        mCanRemoveMessages = value;
+        return this;
+    }
+
+    public boolean canRemoveAllMessages() {
+        return mCanRemoveAllMessages;
+    }
+
+    public ConversationParticipant setCanRemoveAllMessages(boolean value) {
+        mCanRemoveAllMessages = value;
+        return this;
+    }
+
+    public boolean canManageParticipants() {
+        return mCanManageParticipants;
+    }
+
+    public ConversationParticipant setCanManageParticipants(boolean value) {
+        mCanManageParticipants = value;
+        return this;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IConversation.
+ */
+public interface IConversation {
+    String getUUID();
+
+    String getTitle();
+
+    boolean isDirect();
+
+    boolean isUber();
+
+    boolean isPublicJoin();
+
+    List<ConversationParticipant> getParticipants();
+
+    long getCreatedTime();
+
+    long getLastSequence();
+
+    long getLastUpdateTime();
+
+    Map<String, Object> getCustomData();
+
+    void addParticipants(List<ConversationParticipant> participants, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void editParticipants(List<ConversationParticipant> participants, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void removeParticipants(List<ConversationParticipant> participants, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void update(IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void markAsRead(long sequence, IMessengerCompletionHandler<IConversationServiceEvent> completionHandler);
+
+    void typing(IMessengerCompletionHandler<IConversationServiceEvent> completionHandler);
+
+    void sendMessage(String text, List<Map<String, Object>> payload, IMessengerCompletionHandler<IMessageEvent> completionHandler);
+
+    void retransmitEvents(long from, long to, IMessengerCompletionHandler<IRetransmitEvent> completionHandler);
+
+    void retransmitEventsFrom(long from, int count, IMessengerCompletionHandler<IRetransmitEvent> completionHandler);
+
+    void retransmitEventsTo(long to, int count, IMessengerCompletionHandler<IRetransmitEvent> completionHandler);
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the SDK IConversationListEvent.
+ */
+public interface IConversationListEvent extends IMessengerEvent {
+    List<String> getConversationList();
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK IErrorEvent.
+ */
+public interface IErrorEvent extends IMessengerEvent {
+    int getErrorCode();
+
+    String getErrorDescription();
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IMessage.
+ */
+public interface IMessage {
+    String getUUID();
+
+    String getConversation();
+
+    long getSequence();
+
+    String getText();
+
+    List<Map<String, Object>> getPayload();
+
+    void update(String text, List<Map<String, Object>> payload, IMessengerCompletionHandler<IMessageEvent> completionHandler);
+
+    void remove(IMessengerCompletionHandler<IMessageEvent> completionHandler);
+}
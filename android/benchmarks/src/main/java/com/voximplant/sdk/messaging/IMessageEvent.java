@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK IMessageEvent.
+ */
+public interface IMessageEvent extends IMessengerEvent {
+    IMessage getMessage();
+
+    long getSequence();
+
+    long getTimestamp();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IMessenger.
+ */
+public interface IMessenger {
+    void addMessengerListener(IMessengerListener listener);
+
+    void getUser(String username, IMessengerCompletionHandler<IUserEvent> completionHandler);
+
+    void getUser(long imUserId, IMessengerCompletionHandler<IUserEvent> completionHandler);
+
+    void getUsersByName(List<String> usernames, IMessengerCompletionHandler<List<IUserEvent>> completionHandler);
+
+    void getUsersByIMId(List<Long> imUserIds, IMessengerCompletionHandler<List<IUserEvent>> completionHandler);
+
+    void editUser(Map<String, Object> customData, Map<String, Object> privateCustomData, IMessengerCompletionHandler<IUserEvent> completionHandler);
+
+    void managePushNotifications(List<MessengerNotification> notifications, IMessengerCompletionHandler<IUserEvent> completionHandler);
+
+    void setStatus(boolean online, IMessengerCompletionHandler<IStatusEvent> completionHandler);
+
+    void subscribe(List<Long> imUserIds, IMessengerCompletionHandler<ISubscriptionEvent> completionHandler);
+
+    void unsubscribe(List<Long> imUserIds, IMessengerCompletionHandler<ISubscriptionEvent> completionHandler);
+
+    void unsubscribeFromAll(IMessengerCompletionHandler<ISubscriptionEvent> completionHandler);
+
+    void getSubscriptionList(IMessengerCompletionHandler<ISubscriptionEvent> completionHandler);
+
+    void createConversation(ConversationConfig config, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void getConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void getConversations(List<String> uuids, IMessengerCompletionHandler<List<IConversationEvent>> completionHandler);
+
+    void getPublicConversations(IMessengerCompletionHandler<IConversationListEvent> completionHandler);
+
+    void joinConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    void leaveConversation(String uuid, IMessengerCompletionHandler<IConversationEvent> completionHandler);
+
+    IConversation recreateConversation(ConversationConfig config, String uuid, long lastSequence, long lastUpdateTime, long createdTime);
+
+    IMessage recreateMessage(String uuid, String conversation, String text, List<Map<String, Object>> payload, long sequence);
+}
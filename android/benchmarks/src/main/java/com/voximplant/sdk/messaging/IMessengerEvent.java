@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK IMessengerEvent.
+ */
+public interface IMessengerEvent {
+    long getIMUserId();
+
+    MessengerAction getMessengerAction();
+
+    MessengerEventType getMessengerEventType();
+}
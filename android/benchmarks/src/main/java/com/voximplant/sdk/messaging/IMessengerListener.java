@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK IMessengerListener.
+ */
+public interface IMessengerListener {
+    void onGetUser(IUserEvent event);
+
+    void onEditUser(IUserEvent event);
+
+    void onSubscribe(ISubscriptionEvent event);
+
+    void onUnsubscribe(ISubscriptionEvent event);
+
+    void onGetSubscriptionList(ISubscriptionEvent event);
+
+    void onCreateConversation(IConversationEvent event);
+
+    void onRemoveConversation(IConversationEvent event);
+
+    void onGetConversation(IConversationEvent event);
+
+    void onGetPublicConversations(IConversationListEvent event);
+
+    void onEditConversation(IConversationEvent event);
+
+    void onSetStatus(IStatusEvent event);
+
+    void onEditMessage(IMessageEvent event);
+
+    void onSendMessage(IMessageEvent event);
+
+    void onRemoveMessage(IMessageEvent event);
+
+    void onTyping(IConversationServiceEvent event);
+
+    void isRead(IConversationServiceEvent event);
+
+    void onError(IErrorEvent event);
+
+    void onRetransmitEvents(IRetransmitEvent event);
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the SDK IRetransmitEvent.
+ */
+public interface IRetransmitEvent extends IMessengerEvent {
+    List<IMessengerEvent> getEvents();
+
+    long getFromSequence();
+
+    long getToSequence();
+}
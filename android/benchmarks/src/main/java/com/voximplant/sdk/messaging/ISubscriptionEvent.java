@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the SDK ISubscriptionEvent.
+ */
+public interface ISubscriptionEvent extends IMessengerEvent {
+    List<Long> getUsers();
+}
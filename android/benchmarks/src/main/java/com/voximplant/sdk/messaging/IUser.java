@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the SDK IUser.
+ */
+public interface IUser {
+    long getIMId();
+
+    String getName();
+
+    String getDisplayName();
+
+    boolean isDeleted();
+
+    List<String> getConversationList();
+
+    List<String> getLeaveConversationList();
+
+    List<MessengerNotification> getNotifications();
+
+    Map<String, Object> getCustomData();
+
+    Map<String, Object> getPrivateCustomData();
+}
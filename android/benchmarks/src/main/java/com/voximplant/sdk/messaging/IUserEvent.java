@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK IUserEvent.
+ */
+public interface IUserEvent extends IMessengerEvent {
+    IUser getUser();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK MessengerAction.
+ */
+public enum MessengerAction {
+    ADD_PARTICIPANTS,
+    CREATE_CONVERSATION,
+    EDIT_CONVERSATION,
+    EDIT_MESSAGE,
+    EDIT_PARTICIPANTS,
+    EDIT_USER,
+    GET_CONVERSATION,
+    GET_CONVERSATIONS,
+    GET_SUBSCRIPTION_LIST,
+    GET_PUBLIC_CONVERSATIONS,
+    GET_USER,
+    GET_USERS,
+    IS_READ,
+    JOIN_CONVERSATION,
+    LEAVE_CONVERSATION,
+    MANAGE_NOTIFICATIONS,
+    REMOVE_CONVERSATION,
+    REMOVE_MESSAGE,
+    REMOVE_PARTICIPANTS,
+    RETRANSMIT_EVENTS,
+    SEND_MESSAGE,
+    SET_STATUS,
+    SUBSCRIBE,
+    TYPING_MESSAGE,
+    UNSUBSCRIBE,
+    ACTION_UNKNOWN
+}
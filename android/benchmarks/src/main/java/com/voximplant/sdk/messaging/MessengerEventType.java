@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK MessengerEventType.
+ */
+public enum MessengerEventType {
+    IS_READ,
+    ON_CREATE_CONVERSATION,
+    ON_EDIT_CONVERSATION,
+    ON_EDIT_MESSAGE,
+    ON_EDIT_USER,
+    ON_GET_CONVERSATION,
+    ON_GET_PUBLIC_CONVERSATIONS,
+    ON_GET_SUBSCRIPTION_LIST,
+    ON_GET_USER,
+    ON_REMOVE_CONVERSATION,
+    ON_REMOVE_MESSAGE,
+    ON_RETRANSMIT_EVENTS,
+    ON_SEND_MESSAGE,
+    ON_SET_STATUS,
+    ON_SUBSCRIBE,
+    ON_TYPING,
+    ON_UNSUBSCRIBE,
+    EVENT_UNKNOWN,
+    ON_ERROR
+}
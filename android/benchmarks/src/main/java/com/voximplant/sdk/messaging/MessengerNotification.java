@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.sdk.messaging;
+
+/**
+ * JVM stand-in for the SDK MessengerNotification.
+ */
+public enum MessengerNotification {
+    ON_EDIT_MESSAGE,
+    ON_SEND_MESSAGE
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.webrtc;
+
+/**
+ * JVM stand-in for the WebRTC EglBase.
+ */
+public class EglBase {
+    public static final int[] CONFIG_PLAIN = new int[0];
+
+    public interface Context {
+    }
+
+    private static final Context sContext = new Context() {};
+
+    public static EglBase create() {
+        return new EglBase();
+    }
+
+    public Context getEglBaseContext() {
+        return sContext;
+    }
+}
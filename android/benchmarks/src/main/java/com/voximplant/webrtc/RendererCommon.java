@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.webrtc;
+
+/**
+ * JVM stand-in for the WebRTC RendererCommon.
+ */
+public class RendererCommon {
+    public interface RendererEvents {
+        void onFirstFrameRendered();
+
+        void onFrameResolutionChanged(int videoWidth, int videoHeight, int rotation);
+    }
+
+    public interface GlDrawer {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.webrtc;
+
+import android.graphics.Bitmap;
+import android.graphics.SurfaceTexture;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JVM stand-in for the WebRTC SurfaceEglRenderer with its own render thread, like EglRenderer.
+ * Releasing the EGL surface and the EGL context take the time set with {@link #setReleaseCosts}
+ * on the render thread, release() blocks until the render thread has stopped. Renderers that are
+ * initialized and not released yet are counted, so load runs can wait for their release.
+ */
+public class SurfaceEglRenderer implements VideoSink {
+    public interface FrameListener {
+        void onFrame(Bitmap frame);
+    }
+
+    private static volatile long sSurfaceReleaseMs;
+    private static volatile long sEglReleaseMs;
+    private static final AtomicInteger sLiveCount = new AtomicInteger();
+
+    private final String mName;
+    private ExecutorService mRenderThread;
+
+    public SurfaceEglRenderer(String name) {
+        mName = name;
+    }
+
+    /**
+     * Sets the render thread time spent releasing the EGL surface and the EGL context.
+     */
+    public static void setReleaseCosts(long surfaceReleaseMs, long eglReleaseMs) {
+        sSurfaceReleaseMs = surfaceReleaseMs;
+        sEglReleaseMs = eglReleaseMs;
+    }
+
+    /**
+     * Returns the number of renderers that are initialized and not released yet.
+     */
+    public static int getLiveCount() {
+        return sLiveCount.get();
+    }
+
+    public void init(EglBase.Context sharedContext, RendererCommon.RendererEvents rendererEvents, int[] configAttributes,
+                     RendererCommon.GlDrawer drawer) {
+        mRenderThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, mName));
+        sLiveCount.incrementAndGet();
+    }
+
+    public void createEglSurface(SurfaceTexture surfaceTexture) {}
+
+    public void releaseEglSurface(Runnable completionCallback) {
+        mRenderThread.execute(() -> {
+            work(sSurfaceReleaseMs);
+            completionCallback.run();
+        });
+    }
+
+    public void release() {
+        CountDownLatch released = new CountDownLatch(1);
+        mRenderThread.execute(() -> {
+            work(sEglReleaseMs);
+            released.countDown();
+        });
+        mRenderThread.shutdown();
+        try {
+            released.await();
+            mRenderThread.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sLiveCount.decrementAndGet();
+    }
+
+    public void clearImage() {
+        mRenderThread.execute(() -> {});
+    }
+
+    public void addFrameListener(FrameListener listener, float scale) {}
+
+    private static void work(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
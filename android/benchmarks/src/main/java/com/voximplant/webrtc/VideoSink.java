@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.webrtc;
+
+/**
+ * JVM stand-in for the WebRTC VideoSink, frames are not delivered.
+ */
+public interface VideoSink {
+}
@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package io.flutter.plugin.common;
+
+/**
+ * JVM stand-in for the Flutter BinaryMessenger.
+ */
+public interface BinaryMessenger {
+}
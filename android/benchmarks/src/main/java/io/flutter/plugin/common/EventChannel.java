@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package io.flutter.plugin.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM stand-in for the Flutter EventChannel. Stream handlers are never called by the stand-in,
+ * they are kept by channel name so load runs can listen to a channel with
+ * {@link #getStreamHandler}.
+ */
+public final class EventChannel {
+    private static final Map<String, StreamHandler> sHandlers = new ConcurrentHashMap<>();
+
+    public interface StreamHandler {
+        void onListen(Object arguments, EventSink events);
+
+        void onCancel(Object arguments);
+    }
+
+    public interface EventSink {
+        void success(Object event);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void endOfStream();
+    }
+
+    private final String mName;
+
+    public EventChannel(BinaryMessenger messenger, String name) {
+        mName = name;
+    }
+
+    /**
+     * Returns the stream handler last set on a channel with the given name, or null.
+     */
+    public static StreamHandler getStreamHandler(String name) {
+        return sHandlers.get(name);
+    }
+
+    public void setStreamHandler(StreamHandler handler) {
+        if (handler != null) {
+            sHandlers.put(mName, handler);
+        } else {
+            sHandlers.remove(mName);
+        }
+    }
+}
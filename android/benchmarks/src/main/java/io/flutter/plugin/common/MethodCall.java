@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package io.flutter.plugin.common;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for the Flutter embedding MethodCall.
+ */
+public final class MethodCall {
+    public final String method;
+    public final Object arguments;
+
+    public MethodCall(String method, Object arguments) {
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T arguments() {
+        return (T) arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T argument(String key) {
+        return arguments instanceof Map ? (T) ((Map<?, ?>) arguments).get(key) : null;
+    }
+
+    public boolean hasArgument(String key) {
+        return arguments instanceof Map && ((Map<?, ?>) arguments).containsKey(key);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package io.flutter.plugin.common;
+
+/**
+ * JVM stand-in for the Flutter embedding MethodChannel, only the handler interfaces are provided.
+ */
+public class MethodChannel {
+    public interface MethodCallHandler {
+        void onMethodCall(MethodCall call, Result result);
+    }
+
+    public interface Result {
+        void success(Object result);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void notImplemented();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package io.flutter.view;
+
+import android.graphics.SurfaceTexture;
+
+/**
+ * JVM stand-in for the Flutter TextureRegistry.
+ */
+public interface TextureRegistry {
+    interface SurfaceTextureEntry {
+        SurfaceTexture surfaceTexture();
+
+        long id();
+
+        void release();
+    }
+
+    SurfaceTextureEntry createSurfaceTexture();
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Hammers CallManager lookups while calls start and end on other threads, and fails if a lookup
+ * returns a call that does not own the requested id, throws, or finds a call that has ended.
+ *
+ * Each call thread plays calls the way SDK callbacks do: the call is added, its video streams are
+ * added, one is removed, and the call ends. Lookup threads resolve ids of recent calls, live or
+ * ended, by call id and by stream id. Parameters are system properties:
+ * callThreads (4), lookupThreads (4), streamsPerCall (3), seconds (5).
+ */
+public class CallManagerStressTest {
+    private static final int RECENT_CALLS = 64;
+
+    private final CallManager mCallManager = new CallManager();
+    // Recent call ids and their stream ids, written by call threads and read by lookup threads
+    private final AtomicReferenceArray<String[]> mRecent = new AtomicReferenceArray<>(RECENT_CALLS);
+    private final AtomicLong mCalls = new AtomicLong();
+    private final AtomicLong mLookups = new AtomicLong();
+    private final AtomicLong mFailures = new AtomicLong();
+    private final AtomicReference<String> mFirstFailure = new AtomicReference<>();
+    private volatile boolean mStopped;
+
+    private static final MethodChannel.Result RESULT = new MethodChannel.Result() {
+        @Override
+        public void success(Object result) {
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    };
+
+    public static void main(String[] args) throws InterruptedException {
+        int callThreads = Integer.getInteger("callThreads", 4);
+        int lookupThreads = Integer.getInteger("lookupThreads", 4);
+        int streamsPerCall = Integer.getInteger("streamsPerCall", 3);
+        int seconds = Integer.getInteger("seconds", 5);
+        boolean passed = new CallManagerStressTest().run(callThreads, lookupThreads, streamsPerCall, seconds);
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private boolean run(int callThreads, int lookupThreads, int streamsPerCall, int seconds) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < callThreads; i++) {
+            int index = i;
+            threads.add(new Thread(() -> guard(() -> playCalls(index, streamsPerCall)), "calls-" + i));
+        }
+        for (int i = 0; i < lookupThreads; i++) {
+            threads.add(new Thread(() -> guard(this::lookUp), "lookups-" + i));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        TimeUnit.SECONDS.sleep(seconds);
+        mStopped = true;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        if (!mCallManager.getCalls().isEmpty() || !mCallManager.awaitNoCalls(0)) {
+            fail("calls left after all calls have ended: " + mCallManager.getCalls().size());
+        }
+        for (int i = 0; i < RECENT_CALLS; i++) {
+            String[] ids = mRecent.get(i);
+            if (ids != null) {
+                checkEnded(ids);
+            }
+        }
+
+        System.out.printf("callThreads=%d lookupThreads=%d streamsPerCall=%d seconds=%d%n",
+                callThreads, lookupThreads, streamsPerCall, seconds);
+        System.out.printf("calls: %d (%.0f/s), lookups: %d (%.0f/s), failures: %d%n",
+                mCalls.get(), mCalls.get() / elapsed, mLookups.get(), mLookups.get() / elapsed, mFailures.get());
+        if (mFailures.get() > 0) {
+            System.out.println("first failure: " + mFirstFailure.get());
+            return false;
+        }
+        return true;
+    }
+
+    private void playCalls(int threadIndex, int streamsPerCall) {
+        for (long n = 0; !mStopped; n++) {
+            String callId = "call-" + threadIndex + "-" + n;
+            String[] ids = new String[streamsPerCall + 1];
+            ids[0] = callId;
+            Set<String> streamIds = new HashSet<>();
+            for (int i = 1; i <= streamsPerCall; i++) {
+                ids[i] = callId + "-stream-" + i;
+                streamIds.add(ids[i]);
+            }
+            CallModule callModule = new CallModule(callId, Collections.unmodifiableSet(streamIds));
+            mCallManager.addNewCall(callId, callModule);
+            mRecent.set(ThreadLocalRandom.current().nextInt(RECENT_CALLS), ids);
+            for (int i = 1; i < ids.length; i++) {
+                mCallManager.videoStreamAdded(ids[i], callModule);
+            }
+            if (ids.length > 1) {
+                mCallManager.videoStreamRemoved(ids[1], callModule);
+                if (findByStream(ids[1]) != null) {
+                    fail("removed stream " + ids[1] + " is still found");
+                }
+            }
+            mCallManager.callHasEnded(callId);
+            checkEnded(ids);
+            mCalls.incrementAndGet();
+        }
+    }
+
+    private void lookUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!mStopped) {
+            String[] ids = mRecent.get(random.nextInt(RECENT_CALLS));
+            if (ids == null) {
+                continue;
+            }
+            CallModule byCall = findByCall(ids[0]);
+            if (byCall != null && !byCall.getCallId().equals(ids[0])) {
+                fail("call " + ids[0] + " resolved to " + byCall.getCallId());
+            }
+            for (int i = 1; i < ids.length; i++) {
+                CallModule byStream = findByStream(ids[i]);
+                if (byStream != null && !byStream.ownsStream(ids[i])) {
+                    fail("stream " + ids[i] + " resolved to " + byStream.getCallId());
+                }
+            }
+            for (CallModule callModule : mCallManager.getCalls()) {
+                if (callModule == null) {
+                    fail("null call in the call list");
+                }
+            }
+            mLookups.addAndGet(ids.length + 1);
+        }
+    }
+
+    private void checkEnded(String[] ids) {
+        if (findByCall(ids[0]) != null) {
+            fail("ended call " + ids[0] + " is still found");
+        }
+        for (int i = 1; i < ids.length; i++) {
+            if (findByStream(ids[i]) != null) {
+                fail("stream " + ids[i] + " of ended call " + ids[0] + " is still found");
+            }
+        }
+    }
+
+    private CallModule findByCall(String callId) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("callId", callId);
+        return mCallManager.checkCallEvent(new MethodCall("Call.getCallDuration", arguments), RESULT,
+                "Call.getCallDuration");
+    }
+
+    private CallModule findByStream(String streamId) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("streamId", streamId);
+        return mCallManager.findCallByStreamId(new MethodCall("VideoStream.setVisibility", arguments), RESULT,
+                "VideoStream.setVisibility");
+    }
+
+    private void guard(Runnable body) {
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            fail(Thread.currentThread().getName() + ": " + e);
+            mStopped = true;
+        }
+    }
+
+    private void fail(String message) {
+        mFailures.incrementAndGet();
+        mFirstFailure.compareAndSet(null, message);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import java.util.Set;
+
+/**
+ * Stand-in for the SDK backed CallModule with the members CallManager uses.
+ */
+class CallModule {
+    private final String mCallId;
+    private final Set<String> mStreamIds;
+
+    CallModule(String callId, Set<String> streamIds) {
+        mCallId = callId;
+        mStreamIds = streamIds;
+    }
+
+    String getCallId() {
+        return mCallId;
+    }
+
+    boolean ownsStream(String streamId) {
+        return mStreamIds.contains(streamId);
+    }
+
+    void endCall() {}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Last-N selection of the endpoints of a conference whose video is received: the N endpoints
+ * that started speaking most recently plus the pinned ones. Configured from Dart via
+ * "Call.setActiveSpeakerSelection", disabled (all endpoints selected) by default.
+ *
+ * Endpoints that have not spoken yet keep the order they joined in, so the first N are selected
+ * until somebody speaks. Must be used on the main thread.
+ */
+class ActiveSpeakerSelector {
+    // endpoint ids, the most recent speaker first
+    private final List<String> mEndpoints = new ArrayList<>();
+    private final Set<String> mPinned = new HashSet<>();
+    private final Set<String> mSelected = new HashSet<>();
+    private int mLastN;
+
+    boolean isEnabled() {
+        return mLastN > 0;
+    }
+
+    boolean hasEndpoint(@NonNull String endpointId) {
+        return mEndpoints.contains(endpointId);
+    }
+
+    boolean isSelected(@NonNull String endpointId) {
+        return mLastN == 0 || mSelected.contains(endpointId);
+    }
+
+    List<String> getSelected() {
+        List<String> selected = new ArrayList<>();
+        for (String endpointId : mEndpoints) {
+            if (isSelected(endpointId)) {
+                selected.add(endpointId);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * @param lastN number of recent speakers to select, 0 selects all endpoints
+     * @return whether the selection has changed
+     */
+    boolean configure(int lastN, @NonNull Collection<String> pinned) {
+        boolean wasEnabled = isEnabled();
+        mLastN = lastN;
+        mPinned.clear();
+        mPinned.addAll(pinned);
+        return select() || wasEnabled != isEnabled();
+    }
+
+    boolean endpointAdded(@NonNull String endpointId) {
+        if (mEndpoints.contains(endpointId)) {
+            return false;
+        }
+        mEndpoints.add(endpointId);
+        return select();
+    }
+
+    boolean endpointRemoved(@NonNull String endpointId) {
+        mEndpoints.remove(endpointId);
+        return select();
+    }
+
+    boolean voiceActivityStarted(@NonNull String endpointId) {
+        if (!mEndpoints.isEmpty() && mEndpoints.get(0).equals(endpointId)) {
+            return false;
+        }
+        mEndpoints.remove(endpointId);
+        mEndpoints.add(0, endpointId);
+        return select();
+    }
+
+    private boolean select() {
+        Set<String> selected = new HashSet<>();
+        if (mLastN > 0) {
+            for (String endpointId : mEndpoints) {
+                if (mPinned.contains(endpointId)) {
+                    selected.add(endpointId);
+                }
+            }
+            int count = 0;
+            for (int i = 0; i < mEndpoints.size() && count < mLastN; i++) {
+                if (!mPinned.contains(mEndpoints.get(i))) {
+                    selected.add(mEndpoints.get(i));
+                    count++;
+                }
+            }
+        }
+        if (selected.equals(mSelected)) {
+            return false;
+        }
+        mSelected.clear();
+        mSelected.addAll(selected);
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders method call arguments for the log without stringifying large payloads.
+ *
+ * Output is capped in length, long strings and collections are cut, and arguments known to carry
+ * user payloads (message text, custom data, participant lists, ...) are replaced with their size.
+ */
+class ArgumentsFormatter {
+    private static final int MAX_LENGTH = 1024;
+    private static final int MAX_STRING_LENGTH = 64;
+    private static final int MAX_COLLECTION_ITEMS = 8;
+    private static final int MAX_DEPTH = 3;
+
+    private static final Map<String, Set<String>> SUMMARIZED_ARGUMENTS = new HashMap<>();
+
+    static {
+        summarize("Messaging.sendMessage", "text", "payload");
+        summarize("Messaging.updateMessage", "text", "payload");
+        summarize("Messaging.editUser", "customData", "privateCustomData");
+        summarize("Messaging.createConversation", "config");
+        summarize("Messaging.updateConversation", "title", "customData");
+        summarize("Messaging.addParticipants", "participants");
+        summarize("Messaging.editParticipants", "participants");
+        summarize("Messaging.removeParticipants", "participants");
+        summarize("Messaging.getUsersByName", "users");
+        summarize("Messaging.getUsersByIMId", "users");
+        summarize("Messaging.subscribe", "users");
+        summarize("Messaging.unsubscribe", "users");
+        summarize("Messaging.getConversations", "uuids");
+        summarize("Call.sendInfoForCall", "body");
+        summarize("Call.sendMessageForCall", "message");
+    }
+
+    private static void summarize(String method, String... arguments) {
+        SUMMARIZED_ARGUMENTS.put(method, new HashSet<>(Arrays.asList(arguments)));
+    }
+
+    private ArgumentsFormatter() {}
+
+    @NonNull
+    static String format(@NonNull String method, @Nullable Object arguments) {
+        StringBuilder builder = new StringBuilder(128);
+        Set<String> summarized = SUMMARIZED_ARGUMENTS.get(method);
+        append(builder, arguments, summarized != null ? summarized : Collections.emptySet(), 0);
+        if (builder.length() > MAX_LENGTH) {
+            builder.setLength(MAX_LENGTH);
+            builder.append("...");
+        }
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, Object value, Set<String> summarized, int depth) {
+        if (builder.length() > MAX_LENGTH) {
+            return;
+        }
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String) {
+            appendString(builder, (String) value);
+        } else if (value instanceof Map) {
+            if (depth >= MAX_DEPTH) {
+                appendSize(builder, "map", ((Map<?, ?>) value).size());
+                return;
+            }
+            builder.append('{');
+            int count = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (count > 0) {
+                    builder.append(", ");
+                }
+                if (count == MAX_COLLECTION_ITEMS) {
+                    builder.append("...").append(((Map<?, ?>) value).size() - count).append(" more");
+                    break;
+                }
+                Object key = entry.getKey();
+                builder.append(key).append('=');
+                if (depth == 0 && summarized.contains(key)) {
+                    appendSummary(builder, entry.getValue());
+                } else {
+                    append(builder, entry.getValue(), summarized, depth + 1);
+                }
+                count++;
+            }
+            builder.append('}');
+        } else if (value instanceof Collection) {
+            if (depth >= MAX_DEPTH) {
+                appendSize(builder, "list", ((Collection<?>) value).size());
+                return;
+            }
+            builder.append('[');
+            int count = 0;
+            Iterator<?> iterator = ((Collection<?>) value).iterator();
+            while (iterator.hasNext()) {
+                if (count > 0) {
+                    builder.append(", ");
+                }
+                if (count == MAX_COLLECTION_ITEMS) {
+                    builder.append("...").append(((Collection<?>) value).size() - count).append(" more");
+                    break;
+                }
+                append(builder, iterator.next(), summarized, depth + 1);
+                count++;
+            }
+            builder.append(']');
+        } else if (value instanceof byte[]) {
+            appendSize(builder, "bytes", ((byte[]) value).length);
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        if (value.length() > MAX_STRING_LENGTH) {
+            builder.append(value, 0, MAX_STRING_LENGTH).append("...(").append(value.length()).append(" chars)");
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private static void appendSummary(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String) {
+            appendSize(builder, "string", ((String) value).length());
+        } else if (value instanceof Map) {
+            appendSize(builder, "map", ((Map<?, ?>) value).size());
+        } else if (value instanceof Collection) {
+            appendSize(builder, "list", ((Collection<?>) value).size());
+        } else {
+            builder.append('<').append(value.getClass().getSimpleName()).append('>');
+        }
+    }
+
+    private static void appendSize(StringBuilder builder, String type, int size) {
+        builder.append('<').append(type).append(" of ").append(size).append('>');
+    }
+}
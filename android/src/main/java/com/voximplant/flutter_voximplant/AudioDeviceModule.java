@@ -22,7 +22,9 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
 class AudioDeviceModule implements IAudioDeviceEventsListener, EventChannel.StreamHandler {
+    static final String TYPE = "AudioDevice";
     private Handler mHandler = new Handler(Looper.getMainLooper());
+    private final EventDispatcher mEventDispatcher = EventDispatcher.getInstance();
     private EventChannel mEventChannel;
     private EventChannel.EventSink mEventSink;
 
@@ -32,21 +34,10 @@ class AudioDeviceModule implements IAudioDeviceEventsListener, EventChannel.Stre
         Voximplant.getAudioDeviceManager().addAudioDeviceEventsListener(this);
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "selectAudioDevice":
-                selectAudioDevice(call, result);
-                break;
-            case "getActiveDevice":
-                getActiveDevice(call, result);
-                break;
-            case "getAudioDevices":
-                getAudioDevices(call, result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "selectAudioDevice", this::selectAudioDevice);
+        router.register(TYPE, "getActiveDevice", this::getActiveDevice);
+        router.register(TYPE, "getAudioDevices", this::getAudioDevices);
     }
 
     private void selectAudioDevice(MethodCall call, MethodChannel.Result result) {
@@ -115,9 +106,7 @@ class AudioDeviceModule implements IAudioDeviceEventsListener, EventChannel.Stre
         Map<String, Object> event = new HashMap<>();
         event.put("event", "audioDeviceChanged");
         event.put("audioDevice", convertAudioDeviceToInt(audioDevice));
-        if (mEventSink != null) {
-            mHandler.post(() -> mEventSink.success(event));
-        }
+        mEventDispatcher.send(mEventSink, event, EventDispatcher.Policy.LATEST, (String) event.get("event"));
     }
 
     @Override
@@ -129,9 +118,7 @@ class AudioDeviceModule implements IAudioDeviceEventsListener, EventChannel.Stre
             audioDeviceList.add(convertAudioDeviceToInt(device));
         }
         event.put("audioDeviceList", audioDeviceList);
-        if (mEventSink != null) {
-            mHandler.post(() -> mEventSink.success(event));
-        }
+        mEventDispatcher.send(mEventSink, event, EventDispatcher.Policy.LATEST, (String) event.get("event"));
     }
 
     @Override
@@ -8,45 +8,43 @@ import com.voximplant.sdk.Voximplant;
 import com.voximplant.sdk.hardware.IAudioFile;
 import com.voximplant.sdk.hardware.IAudioFileListener;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
 public class AudioFileManager {
+    static final String TYPE = "AudioFile";
     private final Map<String, AudioFileModule> mAudioFileModules;
-    private Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
     private final BinaryMessenger mMessenger;
     private final Context mAppContext;
 
     AudioFileManager(BinaryMessenger messenger, Context context) {
         this.mMessenger = messenger;
-        this.mAudioFileModules = new HashMap<>();
+        this.mAudioFileModules = new ConcurrentHashMap<>();
         this.mAppContext = context;
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        if (call.arguments == null) {
-            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, call.method + ": Invalid arguments", null));
-            return;
-        }
-        switch (call.method) {
-            case "initWithFile":
-                initWithFile(call, result);
-                break;
-            case "loadFile":
-                loadFile(call, result);
-                break;
-            case "releaseResources":
-                releaseResources(call, result);
-                break;
-            default:
-                handleInModule(call, result);
-                break;
-        }
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "initWithFile", withArguments(this::initWithFile));
+        router.register(TYPE, "loadFile", withArguments(this::loadFile));
+        router.register(TYPE, "releaseResources", withArguments(this::releaseResources));
+        router.register(TYPE, "play", this::findAudioFileModule, AudioFileModule::play);
+        router.register(TYPE, "stop", this::findAudioFileModule, (module, call, result) -> module.stop(result));
+    }
+
+    private MethodRouter.MethodHandler withArguments(MethodRouter.MethodHandler handler) {
+        return (call, result) -> {
+            if (call.arguments == null) {
+                mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, call.method + ": Invalid arguments", null));
+                return;
+            }
+            handler.handle(call, result);
+        };
     }
 
     void initWithFile(MethodCall call, MethodChannel.Result result) {
@@ -116,21 +114,20 @@ public class AudioFileManager {
         mHandler.post(() -> result.success(null));
     }
 
-    void handleInModule(MethodCall call, MethodChannel.Result result) {
+    private AudioFileModule findAudioFileModule(MethodCall call, MethodChannel.Result result, String methodName) {
+        if (call.arguments == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": Invalid arguments", null));
+            return null;
+        }
         String fileId = call.argument("fileId");
         if (fileId == null) {
-            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, call.method + ": fileId is null", null));
-            return;
-        }
-        if (!mAudioFileModules.containsKey(fileId)) {
-            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, call.method + ": could'nt find audioFile", null));
-            return;
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": fileId is null", null));
+            return null;
         }
         AudioFileModule module = mAudioFileModules.get(fileId);
         if (module == null) {
-            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, call.method + ": could'nt find audioFile", null));
-            return;
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": could'nt find audioFile", null));
         }
-        module.handleMethodCall(call, result);
+        return module;
     }
 }
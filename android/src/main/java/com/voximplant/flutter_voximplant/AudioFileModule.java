@@ -18,12 +18,13 @@ public class AudioFileModule implements EventChannel.StreamHandler, IAudioFileLi
     final IAudioFile mAudioFile;
     private final String mFileId;
     private EventChannel mEventChannel;
-    private EventChannel.EventSink mEventSink;
-    private Handler mHandler = new Handler(Looper.getMainLooper());
-    private MethodChannel.Result mLoadFileCompletion;
-    private MethodChannel.Result mPlayCompletion;
-    private MethodChannel.Result mStopCompletion;
-    private boolean mIsPlaying;
+    private volatile EventChannel.EventSink mEventSink;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final EventDispatcher mEventDispatcher = EventDispatcher.getInstance();
+    private volatile MethodChannel.Result mLoadFileCompletion;
+    private volatile MethodChannel.Result mPlayCompletion;
+    private volatile MethodChannel.Result mStopCompletion;
+    private volatile boolean mIsPlaying;
 
     AudioFileModule(BinaryMessenger messenger, IAudioFile file, String fileId, MethodChannel.Result loadFileCompletion) {
         mLoadFileCompletion = loadFileCompletion;
@@ -35,20 +36,6 @@ public class AudioFileModule implements EventChannel.StreamHandler, IAudioFileLi
         mIsPlaying = false;
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "play":
-                play(call, result);
-                break;
-            case "stop":
-                stop(result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
-    }
-
     void play(MethodCall call, MethodChannel.Result result) {
         Object looped = call.argument("looped");
         if (looped instanceof Boolean) {
@@ -75,22 +62,20 @@ public class AudioFileModule implements EventChannel.StreamHandler, IAudioFileLi
     @Override
     public void onStart(IAudioFile audioFile) {
         mIsPlaying = true;
-        if (mPlayCompletion != null) {
-            mHandler.post(() -> {
-                mPlayCompletion.success(null);
-                mPlayCompletion = null;
-            });
+        MethodChannel.Result completion = mPlayCompletion;
+        mPlayCompletion = null;
+        if (completion != null) {
+            mHandler.post(() -> completion.success(null));
         }
     }
 
     @Override
     public void onStop(IAudioFile audioFile) {
         mIsPlaying = false;
-        if (mStopCompletion != null) {
-            mHandler.post(() -> {
-                mStopCompletion.success(null);
-                mStopCompletion = null;
-            });
+        MethodChannel.Result completion = mStopCompletion;
+        mStopCompletion = null;
+        if (completion != null) {
+            mHandler.post(() -> completion.success(null));
         } else if (mFileId != null) {
             Map<String, Object> params = new HashMap<>();
             params.put("name", "didStopPlaying");
@@ -100,11 +85,10 @@ public class AudioFileModule implements EventChannel.StreamHandler, IAudioFileLi
 
     @Override
     public void onPrepared(IAudioFile audioFile) {
-        if (mLoadFileCompletion != null) {
-            mHandler.post(() -> {
-                mLoadFileCompletion.success(mFileId);
-                mLoadFileCompletion = null;
-            });
+        MethodChannel.Result completion = mLoadFileCompletion;
+        mLoadFileCompletion = null;
+        if (completion != null) {
+            mHandler.post(() -> completion.success(mFileId));
         }
     }
 
@@ -119,8 +103,6 @@ public class AudioFileModule implements EventChannel.StreamHandler, IAudioFileLi
     }
 
     private void sendEvent(Map<String, Object> event) {
-        if (mEventSink != null) {
-            mHandler.post(() -> mEventSink.success(event));
-        }
+        mEventDispatcher.send(mEventSink, event);
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Executes a list of method calls received in a single "Batch.execute" platform call.
+ *
+ * Entries are dispatched in order through the same router as regular calls. The batch completes
+ * with a list that has a result map for each entry at the same index:
+ * {"success": true, "result": ...} or {"success": false, "code": ..., "message": ..., "details": ...}.
+ * An entry whose handler throws fails with ERROR_INTERNAL and does not affect the other entries.
+ */
+class BatchModule {
+    static final String TYPE = "Batch";
+
+    private final MethodRouter mRouter;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    BatchModule(MethodRouter router) {
+        mRouter = router;
+    }
+
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "execute", this::execute);
+    }
+
+    private void execute(MethodCall call, MethodChannel.Result result) {
+        if (!(call.arguments instanceof List)) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Batch.execute: Invalid arguments", null));
+            return;
+        }
+        List<?> entries = (List<?>) call.arguments;
+        if (entries.isEmpty()) {
+            mHandler.post(() -> result.success(new ArrayList<>()));
+            return;
+        }
+        BatchResult batchResult = new BatchResult(entries.size(), result);
+        for (int i = 0; i < entries.size(); i++) {
+            MethodChannel.Result entryResult = batchResult.entryResult(i);
+            Object entry = entries.get(i);
+            if (!(entry instanceof Map)) {
+                entryResult.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Batch.execute: Invalid entry at index " + i, null);
+                continue;
+            }
+            Object method = ((Map<?, ?>) entry).get("method");
+            if (!(method instanceof String) || ((String) method).startsWith(TYPE + ".")) {
+                entryResult.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Batch.execute: Invalid method at index " + i, null);
+                continue;
+            }
+            MethodCall entryCall = new MethodCall((String) method, ((Map<?, ?>) entry).get("arguments"));
+            try {
+                if (!mRouter.dispatch(entryCall, entryResult)) {
+                    entryResult.notImplemented();
+                }
+            } catch (RuntimeException e) {
+                entryResult.error(VoximplantErrors.ERROR_INTERNAL, "Batch.execute: " + method + " failed at index " + i + ": " + e, null);
+            }
+        }
+    }
+
+    private class BatchResult {
+        private final Object[] mResults;
+        private final AtomicInteger mPending;
+        private final MethodChannel.Result mResult;
+
+        BatchResult(int size, MethodChannel.Result result) {
+            mResults = new Object[size];
+            mPending = new AtomicInteger(size);
+            mResult = result;
+        }
+
+        MethodChannel.Result entryResult(int index) {
+            return new MethodChannel.Result() {
+                // a handler may throw after it has replied
+                private final AtomicBoolean mReplied = new AtomicBoolean();
+
+                @Override
+                public void success(@Nullable Object value) {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("success", true);
+                    entry.put("result", value);
+                    complete(index, entry);
+                }
+
+                @Override
+                public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("success", false);
+                    entry.put("code", errorCode);
+                    entry.put("message", errorMessage);
+                    entry.put("details", errorDetails);
+                    complete(index, entry);
+                }
+
+                @Override
+                public void notImplemented() {
+                    error(VoximplantErrors.ERROR_NOT_IMPLEMENTED, "Method is not implemented", null);
+                }
+
+                private void complete(int index, Map<String, Object> entry) {
+                    if (mReplied.compareAndSet(false, true)) {
+                        BatchResult.this.complete(index, entry);
+                    }
+                }
+            };
+        }
+
+        private void complete(int index, Map<String, Object> entry) {
+            mResults[index] = entry;
+            if (mPending.decrementAndGet() == 0) {
+                List<Object> results = Arrays.asList(mResults);
+                mHandler.post(() -> mResult.success(results));
+            }
+        }
+    }
+}
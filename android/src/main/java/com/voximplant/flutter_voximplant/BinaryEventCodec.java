@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Compact binary format for high-frequency events, enabled from Dart via "Events.setBinaryFormat".
+ *
+ * An event is sent as a byte array instead of a map: a format version, a numeric event tag and
+ * the event fields in a fixed order, little endian. Strings are a u16 UTF-8 length (0xFFFF for
+ * null) followed by the bytes. Layouts must match lib/src/binary_events.dart.
+ *
+ * Events are encoded into a reusable per-thread buffer, so only the resulting array is allocated.
+ */
+class BinaryEventCodec {
+    private static final byte VERSION = 1;
+    private static final int NULL_STRING = 0xFFFF;
+
+    static final byte PACKET_LOSS = 1;
+    static final byte CODEC_MISMATCH = 2;
+    static final byte LOCAL_VIDEO_DEGRADATION = 3;
+    static final byte ICE_DISCONNECTED = 4;
+    static final byte HIGH_MEDIA_LATENCY = 5;
+    static final byte NO_AUDIO_SIGNAL = 6;
+    static final byte NO_AUDIO_RECEIVE = 7;
+    static final byte NO_VIDEO_RECEIVE = 8;
+    static final byte RESOLUTION_CHANGED = 16;
+    static final byte VOICE_ACTIVITY_STARTED = 32;
+    static final byte VOICE_ACTIVITY_STOPPED = 33;
+
+    private static volatile boolean sEnabled;
+
+    private static final ThreadLocal<ByteBuffer> sBuffer = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    };
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    void registerMethods(MethodRouter router) {
+        router.register(EventDispatcher.EVENTS_TYPE, "setBinaryFormat", this::setBinaryFormat);
+    }
+
+    private void setBinaryFormat(MethodCall call, MethodChannel.Result result) {
+        Boolean enabled = call.argument("enabled");
+        if (enabled == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Events.setBinaryFormat: Invalid arguments", null));
+            return;
+        }
+        sEnabled = enabled;
+        mHandler.post(() -> result.success(null));
+    }
+
+    static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    static byte[] qualityIssue(byte tag, int level) {
+        return finish(start(tag).put((byte) level));
+    }
+
+    static byte[] qualityIssue(byte tag, int level, double value) {
+        return finish(start(tag).put((byte) level).putDouble(value));
+    }
+
+    static byte[] codecMismatch(int level, @Nullable String codec) {
+        ByteBuffer buffer = start(CODEC_MISMATCH).put((byte) level);
+        return finish(putString(buffer, codec));
+    }
+
+    static byte[] localVideoDegradation(int level, int targetWidth, int targetHeight, int actualWidth, int actualHeight) {
+        return finish(start(LOCAL_VIDEO_DEGRADATION).put((byte) level)
+                .putInt(targetWidth).putInt(targetHeight).putInt(actualWidth).putInt(actualHeight));
+    }
+
+    static byte[] noMediaReceive(byte tag, int level, @Nullable String streamId, @Nullable String endpointId) {
+        ByteBuffer buffer = start(tag).put((byte) level);
+        buffer = putString(buffer, streamId);
+        return finish(putString(buffer, endpointId));
+    }
+
+    static byte[] resolutionChanged(int width, int height, int rotation, int textureId) {
+        return finish(start(RESOLUTION_CHANGED).putInt(width).putInt(height).put((byte) rotation).putInt(textureId));
+    }
+
+    static byte[] voiceActivity(byte tag, @Nullable String endpointId) {
+        return finish(putString(start(tag), endpointId));
+    }
+
+    private static ByteBuffer start(byte tag) {
+        ByteBuffer buffer = sBuffer.get();
+        buffer.clear();
+        return buffer.put(VERSION).put(tag);
+    }
+
+    private static ByteBuffer putString(@NonNull ByteBuffer buffer, @Nullable String value) {
+        if (value == null) {
+            return buffer.putShort((short) NULL_STRING);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, NULL_STRING - 1);
+        if (buffer.remaining() < length + 2) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length + 64))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            sBuffer.set(grown);
+            buffer = grown;
+        }
+        return buffer.putShort((short) length).put(bytes, 0, length);
+    }
+
+    private static byte[] finish(ByteBuffer buffer) {
+        byte[] event = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(event);
+        return event;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * A few call channels registered ahead of time with a generic id, so an incoming call does not
+ * set up its event channels and stats buffers in the SDK callback. The id is bound to the call
+ * when the channels are acquired and sent to Dart with the incoming call.
+ *
+ * Channels are not reused after a call ends, they are released with the call. The pool is
+ * refilled on the main thread after each acquisition; if it is empty, channels are created on
+ * the spot.
+ */
+class CallChannelPool {
+    private static final int POOL_SIZE = 2;
+    // Channel ids stay unique across engines, Dart may still hold channels of a previous one
+    private static final AtomicInteger sNextChannelId = new AtomicInteger();
+
+    private final BinaryMessenger mMessenger;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final ArrayDeque<CallChannels> mChannels = new ArrayDeque<>();
+    private final Runnable mFill = this::fill;
+    private boolean mClosed;
+
+    CallChannelPool(@NonNull BinaryMessenger messenger) {
+        mMessenger = messenger;
+        fill();
+    }
+
+    CallChannels acquire() {
+        CallChannels channels;
+        synchronized (mChannels) {
+            channels = mChannels.pollFirst();
+        }
+        mHandler.post(mFill);
+        return channels != null ? channels : create();
+    }
+
+    /**
+     * Unregisters the pooled channels, Dart has never listened to them. Must be called on the
+     * main thread.
+     */
+    void close() {
+        mHandler.removeCallbacks(mFill);
+        synchronized (mChannels) {
+            mClosed = true;
+            for (CallChannels channels : mChannels) {
+                channels.discard();
+            }
+            mChannels.clear();
+        }
+    }
+
+    private void fill() {
+        while (true) {
+            synchronized (mChannels) {
+                if (mClosed || mChannels.size() >= POOL_SIZE) {
+                    return;
+                }
+            }
+            CallChannels channels = create();
+            synchronized (mChannels) {
+                if (mClosed) {
+                    channels.discard();
+                    return;
+                }
+                mChannels.addLast(channels);
+            }
+        }
+    }
+
+    private CallChannels create() {
+        return new CallChannels(mMessenger, "incoming_" + sNextChannelId.getAndIncrement());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Call event, quality issue event and stats channels of a call, named after a channel id.
+ *
+ * Outgoing calls use the call id as the channel id. Incoming calls take pre-registered channels
+ * with a generic id from {@link CallChannelPool}, the id is sent to Dart with the incoming call.
+ * The channels are unregistered when the call ends, see {@link #release()}.
+ */
+class CallChannels implements EventChannel.StreamHandler {
+    private static final long REPLAY_MAX_AGE_MS = 30000;
+
+    private final String mChannelId;
+    private final String mCallChannelName;
+    private final String mQualityIssuesChannelName;
+    private final EventChannel mCallChannel;
+    private final EventChannel mQualityIssuesChannel;
+    private final EventChannel mStatsChannel;
+    // Events are kept until Dart listens, e.g. a call ending before the app has started up from a push.
+    private final ReplayEventSink mEventSink = new ReplayEventSink(64, REPLAY_MAX_AGE_MS);
+    private final ReplayEventSink mIssuesEventSink = new ReplayEventSink(64, REPLAY_MAX_AGE_MS);
+    private final CallStatsPipeline mStatsPipeline = new CallStatsPipeline();
+    private volatile Runnable mListenListener;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mUnregisterIdle = this::unregisterIdle;
+    // Accessed on the main thread
+    private boolean mStatsListening;
+    private boolean mReleased;
+
+    private final EventChannel.StreamHandler mStatsHandler = new EventChannel.StreamHandler() {
+        @Override
+        public void onListen(Object arguments, EventChannel.EventSink events) {
+            mStatsListening = true;
+            mStatsPipeline.onListen(arguments, events);
+        }
+
+        @Override
+        public void onCancel(Object arguments) {
+            mStatsListening = false;
+            mStatsPipeline.onCancel(arguments);
+            if (mReleased) {
+                mStatsChannel.setStreamHandler(null);
+            }
+        }
+    };
+
+    CallChannels(@NonNull BinaryMessenger messenger, @NonNull String channelId) {
+        mChannelId = channelId;
+        mCallChannelName = "plugins.voximplant.com/call_" + channelId;
+        mQualityIssuesChannelName = "plugins.voximplant.com/quality_issues_call_" + channelId;
+        mCallChannel = new EventChannel(messenger, mCallChannelName);
+        mCallChannel.setStreamHandler(this);
+        mQualityIssuesChannel = new EventChannel(messenger, mQualityIssuesChannelName);
+        mQualityIssuesChannel.setStreamHandler(this);
+        mStatsChannel = new EventChannel(messenger, "plugins.voximplant.com/call_stats_" + channelId);
+        mStatsChannel.setStreamHandler(mStatsHandler);
+    }
+
+    String getChannelId() {
+        return mChannelId;
+    }
+
+    ReplayEventSink getEventSink() {
+        return mEventSink;
+    }
+
+    ReplayEventSink getIssuesEventSink() {
+        return mIssuesEventSink;
+    }
+
+    CallStatsPipeline getStatsPipeline() {
+        return mStatsPipeline;
+    }
+
+    /**
+     * Sets a listener called when Dart starts listening to call events.
+     */
+    void setListenListener(@Nullable Runnable listener) {
+        mListenListener = listener;
+    }
+
+    /**
+     * Unregisters the channels after the call has ended. A channel Dart listens to is unregistered
+     * when Dart cancels, so the cancel request finds its handler. The other channels are
+     * unregistered once kept events have expired, so Dart can still listen and receive them,
+     * e.g. the end of a call reported from a push. Must be called on the main thread.
+     */
+    void release() {
+        mReleased = true;
+        mHandler.postDelayed(mUnregisterIdle, REPLAY_MAX_AGE_MS);
+    }
+
+    /**
+     * Unregisters channels that have never been bound to a call. Must be called on the main thread.
+     */
+    void discard() {
+        mReleased = true;
+        unregisterIdle();
+    }
+
+    private void unregisterIdle() {
+        if (!mEventSink.isListening()) {
+            mCallChannel.setStreamHandler(null);
+        }
+        if (!mIssuesEventSink.isListening()) {
+            mQualityIssuesChannel.setStreamHandler(null);
+        }
+        if (!mStatsListening) {
+            mStatsChannel.setStreamHandler(null);
+        }
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink eventSink) {
+        if (arguments instanceof String) {
+            String type = (String) arguments;
+            if (type.equals(mCallChannelName)) {
+                Runnable listener = mListenListener;
+                if (listener != null) {
+                    listener.run();
+                }
+                mEventSink.setSink(eventSink);
+            }
+            if (type.equals(mQualityIssuesChannelName)) {
+                mIssuesEventSink.setSink(eventSink);
+            }
+        }
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        if (arguments instanceof String) {
+            String type = (String) arguments;
+            if (type.equals(mCallChannelName)) {
+                mEventSink.setSink(null);
+                if (mReleased) {
+                    mCallChannel.setStreamHandler(null);
+                }
+            }
+            if (type.equals(mQualityIssuesChannelName)) {
+                mIssuesEventSink.setSink(null);
+                if (mReleased) {
+                    mQualityIssuesChannel.setStreamHandler(null);
+                }
+            }
+        }
+    }
+}
@@ -6,21 +6,28 @@ package com.voximplant.flutter_voximplant;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
+/**
+ * Registry of active calls, updated from SDK callbacks and read from method calls.
+ *
+ * Lookups do not lock, calls and video streams are added and removed atomically.
+ */
 class CallManager {
-    private final Map<String, CallModule> mCallModules;
+    private final ConcurrentHashMap<String, CallModule> mCallModules = new ConcurrentHashMap<>();
+    // Video stream id -> call that owns the stream, for VideoStream.* methods
+    private final ConcurrentHashMap<String, CallModule> mVideoStreams = new ConcurrentHashMap<>();
+    private final Object mCallEndedLock = new Object();
     private final Handler mHandler = new Handler(Looper.getMainLooper());
 
-    CallManager() {
-        mCallModules = new HashMap<>();
-    }
-
     CallModule checkCallEvent(MethodCall call, MethodChannel.Result result, String methodName) {
         if (call.arguments == null) {
             mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": Invalid arguments", null));
@@ -38,7 +45,7 @@ class CallManager {
         return callModule;
     }
 
-    synchronized CallModule findCallByStreamId(MethodCall call, MethodChannel.Result result, String methodName) {
+    CallModule findCallByStreamId(MethodCall call, MethodChannel.Result result, String methodName) {
         if (call.arguments == null) {
             mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": Invalid arguments", null));
             return null;
@@ -48,31 +55,62 @@ class CallManager {
             mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": Invalid streamId", null));
             return null;
         }
-        CallModule targetCallModule = null;
-        for (Map.Entry<String, CallModule> entry : mCallModules.entrySet()) {
-            if (entry.getValue().hasVideoStreamId(streamId)) {
-                targetCallModule = entry.getValue();
-                break;
-            }
-        }
+        CallModule targetCallModule = mVideoStreams.get(streamId);
         if (targetCallModule == null) {
             mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, methodName + ": Failed to find call for streamId: " + streamId, null));
         }
         return targetCallModule;
+    }
+
+    void endAllCalls() {
+        // ending a call may remove it from the registry, iterate over a snapshot
+        for (CallModule callModule : getCalls()) {
+            callModule.endCall();
+        }
+    }
 
+    List<CallModule> getCalls() {
+        return new ArrayList<>(mCallModules.values());
     }
 
-    synchronized void endAllCalls() {
-        for (Map.Entry<String, CallModule> entry : mCallModules.entrySet()) {
-            entry.getValue().endCall();
+    /**
+     * Waits until all calls have ended or the timeout expires.
+     *
+     * @return true if there are no calls left
+     */
+    boolean awaitNoCalls(long timeoutMs) throws InterruptedException {
+        long deadline = SystemClock.elapsedRealtime() + timeoutMs;
+        synchronized (mCallEndedLock) {
+            while (!mCallModules.isEmpty()) {
+                long remaining = deadline - SystemClock.elapsedRealtime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                mCallEndedLock.wait(remaining);
+            }
         }
+        return true;
     }
 
-    synchronized void callHasEnded(String callId) {
-        mCallModules.remove(callId);
+    void callHasEnded(String callId) {
+        CallModule callModule = mCallModules.remove(callId);
+        if (callModule != null) {
+            mVideoStreams.values().removeAll(Collections.singleton(callModule));
+        }
+        synchronized (mCallEndedLock) {
+            mCallEndedLock.notifyAll();
+        }
     }
 
-    synchronized void addNewCall(String callId, CallModule callModule) {
+    void addNewCall(String callId, CallModule callModule) {
         mCallModules.put(callId, callModule);
     }
+
+    void videoStreamAdded(String streamId, CallModule callModule) {
+        mVideoStreams.put(streamId, callModule);
+    }
+
+    void videoStreamRemoved(String streamId, CallModule callModule) {
+        mVideoStreams.remove(streamId, callModule);
+    }
 }
@@ -30,100 +30,87 @@ import com.voximplant.sdk.call.RenderScaleType;
 import com.voximplant.sdk.call.VideoFlags;
 import com.voximplant.sdk.call.VideoStreamReceiveStopReason;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import io.flutter.plugin.common.BinaryMessenger;
-import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
-import io.flutter.view.TextureRegistry;
 
-public class CallModule implements ICallListener, IEndpointListener, IQualityIssueListener, EventChannel.StreamHandler {
+public class CallModule implements ICallListener, IEndpointListener, IQualityIssueListener {
+    static final String TYPE = "Call";
+    static final String VIDEO_STREAM_TYPE = "VideoStream";
     private final String TAG_NAME = "VOXFLUTTER";
     private final CallManager mCallManager;
     private final ICall mCall;
-    private EventChannel mEventChannel;
-    private EventChannel mQualityIssuesEventChannel;
-    private EventChannel.EventSink mEventSink;
-    private EventChannel.EventSink mIssuesEventSink;
+    private final CallChannels mChannels;
+    private final ReplayEventSink mEventSink;
+    private final ReplayEventSink mIssuesEventSink;
+    private final CallStatsPipeline mStatsPipeline;
+    private final CallStatsAggregator mStatsAggregator = new CallStatsAggregator();
+    private final CallStatsRecorder mStatsRecorder;
+    private final QualityIssueDebouncer mQualityIssueDebouncer;
+    private final QualityIssueSnapshot mQualityIssues;
+    private final VideoReceiveController mVideoReceiveController = new VideoReceiveController();
+    private final ActiveSpeakerSelector mSpeakerSelector = new ActiveSpeakerSelector();
     private final Handler mHandler = new Handler(Looper.getMainLooper());
-    private final BinaryMessenger mMessenger;
-    private final TextureRegistry mTextures;
+    private final VideoRendererPool mRendererPool;
 
+    private final CallTimeline mTimeline;
     private ILocalVideoStream mLocalVideoStream;
     private final Map<String, IRemoteVideoStream> mRemoteVideoStreams = new HashMap<>();
     private final Map<String, VoximplantRenderer> mRenderers = new HashMap<>();
+    private final Set<String> mRemovedRemoteVideoStreamIds = new HashSet<>();
 
-    CallModule(BinaryMessenger messenger, TextureRegistry textures, CallManager callManager, ICall call) {
+    CallModule(VideoRendererPool rendererPool, CallManager callManager, ICall call, CallChannels channels,
+               CallTimeline timeline) {
         mCallManager = callManager;
-        mTextures = textures;
-        mMessenger = messenger;
+        mTimeline = timeline;
+        mRendererPool = rendererPool;
         mCall = call;
-        mEventChannel = new EventChannel(messenger, "plugins.voximplant.com/call_" + mCall.getCallId());
-        mQualityIssuesEventChannel = new EventChannel(messenger, "plugins.voximplant.com/quality_issues_call_" + mCall.getCallId());
-        mEventChannel.setStreamHandler(this);
-        mQualityIssuesEventChannel.setStreamHandler(this);
-    }
-
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "answerCall":
-                answerCall(call, result);
-                break;
-            case "rejectCall":
-                rejectCall(call, result);
-                break;
-            case "hangupCall":
-                hangupCall(call, result);
-                break;
-            case "sendAudioForCall":
-                sendAudio(call, result);
-                break;
-            case "sendInfoForCall":
-                sendInfo(call, result);
-                break;
-            case "sendMessageForCall":
-                sendMessage(call, result);
-                break;
-            case "sendToneForCall":
-                sendTone(call, result);
-                break;
-            case "holdCall":
-                holdCall(call, result);
-                break;
-            case "addVideoRenderer":
-                addVideoRenderer(call, result);
-                break;
-            case "removeVideoRenderer":
-                removeVideoRenderer(call, result);
-                break;
-            case "sendVideoForCall":
-                sendVideo(call, result);
-                break;
-            case "receiveVideoForCall":
-                receiveVideo(call, result);
-                break;
-            case "getCallDuration":
-                getCallDuration(call, result);
-                break;
-            case "startReceivingRemoteVideoStream":
-                startReceiving(call, result);
-                break;
-            case "stopReceivingRemoteVideoStream":
-                stopReceiving(call, result);
-                break;
-            case "requestVideoSizeRemoteVideoStream":
-                requestVideoSize(call, result);
-                break;
-            case "getCurrentQualityIssues":
-                getCurrentQualityIssues(call, result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
+        mChannels = channels;
+        mEventSink = channels.getEventSink();
+        mIssuesEventSink = channels.getIssuesEventSink();
+        mQualityIssueDebouncer = new QualityIssueDebouncer(
+                (event, issueKey) -> mIssuesEventSink.send(event, EventDispatcher.Policy.LATEST, issueKey));
+        mStatsPipeline = channels.getStatsPipeline();
+        mStatsRecorder = CallStatsRecorder.open(call.getCallId());
+        mQualityIssues = new QualityIssueSnapshot(call.getCurrentQualityIssues());
+        channels.setListenListener(() -> mTimeline.mark(CallTimeline.LISTENING));
+        mCall.addCallListener(this);
+        mCall.setQualityIssueListener(this);
+        for (IEndpoint endpoint : mCall.getEndpoints()) {
+            endpoint.setEndpointListener(this);
+            mSpeakerSelector.endpointAdded(endpoint.getEndpointId());
+        }
+    }
+
+    static void registerMethods(MethodRouter router, CallManager callManager) {
+        router.register(TYPE, "answerCall", callManager::checkCallEvent, CallModule::answerCall);
+        router.register(TYPE, "rejectCall", callManager::checkCallEvent, CallModule::rejectCall);
+        router.register(TYPE, "hangupCall", callManager::checkCallEvent, CallModule::hangupCall);
+        router.register(TYPE, "sendAudioForCall", callManager::checkCallEvent, CallModule::sendAudio);
+        router.register(TYPE, "sendInfoForCall", callManager::checkCallEvent, CallModule::sendInfo);
+        router.register(TYPE, "sendMessageForCall", callManager::checkCallEvent, CallModule::sendMessage);
+        router.register(TYPE, "sendToneForCall", callManager::checkCallEvent, CallModule::sendTone);
+        router.register(TYPE, "holdCall", callManager::checkCallEvent, CallModule::holdCall);
+        router.register(TYPE, "sendVideoForCall", callManager::checkCallEvent, CallModule::sendVideo);
+        router.register(TYPE, "receiveVideoForCall", callManager::checkCallEvent, CallModule::receiveVideo);
+        router.register(TYPE, "getCallDuration", callManager::checkCallEvent, CallModule::getCallDuration);
+        router.register(TYPE, "getCurrentQualityIssues", callManager::checkCallEvent, CallModule::getCurrentQualityIssues);
+        router.register(TYPE, "configureStats", callManager::checkCallEvent, CallModule::configureStats);
+        router.register(TYPE, "getStatsSummary", callManager::checkCallEvent, CallModule::getStatsSummary);
+        router.register(TYPE, "setActiveSpeakerSelection", callManager::checkCallEvent, CallModule::setActiveSpeakerSelection);
+        router.register(VIDEO_STREAM_TYPE, "addVideoRenderer", callManager::findCallByStreamId, CallModule::addVideoRenderer);
+        router.register(VIDEO_STREAM_TYPE, "removeVideoRenderer", callManager::findCallByStreamId, CallModule::removeVideoRenderer);
+        router.register(VIDEO_STREAM_TYPE, "startReceivingRemoteVideoStream", callManager::findCallByStreamId, CallModule::startReceiving);
+        router.register(VIDEO_STREAM_TYPE, "stopReceivingRemoteVideoStream", callManager::findCallByStreamId, CallModule::stopReceiving);
+        router.register(VIDEO_STREAM_TYPE, "requestVideoSizeRemoteVideoStream", callManager::findCallByStreamId, CallModule::requestVideoSize);
+        router.register(VIDEO_STREAM_TYPE, "setVisibility", callManager::findCallByStreamId, CallModule::setVisibility);
     }
 
     void endCall() {
@@ -150,6 +137,7 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
         try {
             mCall.answer(callSettings);
+            mTimeline.mark(CallTimeline.ANSWERED);
             mHandler.post(() -> result.success(null));
         } catch (CallException e) {
             Log.e(TAG_NAME, "VoximplantPlugin: call: exception on call answer: " + e.getMessage());
@@ -282,19 +270,18 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
         });
     }
 
-    boolean hasVideoStreamId(String videoStreamId) {
-        return (mLocalVideoStream != null && mLocalVideoStream.getVideoStreamId().equals(videoStreamId)) ||
-                mRemoteVideoStreams.containsKey(videoStreamId);
-    }
-
     private void addVideoRenderer(MethodCall call, MethodChannel.Result result) {
         String streamId = call.argument("streamId");
         if (streamId == null) {
             mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Call.addVideoRenderer: Invalid streamId", null));
             return;
         }
+        if (mRenderers.containsKey(streamId)) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Call.addVideoRenderer: Video stream already has a renderer", null));
+            return;
+        }
         if (mLocalVideoStream != null && mLocalVideoStream.getVideoStreamId().equals(streamId)) {
-            VoximplantRenderer renderer = new VoximplantRenderer(mMessenger, mTextures);
+            VoximplantRenderer renderer = mRendererPool.acquire(null);
             mRenderers.put(streamId, renderer);
             mLocalVideoStream.addVideoRenderer(renderer.getRenderer(), RenderScaleType.SCALE_FIT);
             Map<String, Object> event = new HashMap<>();
@@ -302,17 +289,15 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
             mHandler.post(() -> result.success(event));
             return;
         }
-        if (mRemoteVideoStreams.containsKey(streamId)) {
-            IRemoteVideoStream videoStream = mRemoteVideoStreams.get(streamId);
-            if (videoStream != null) {
-                VoximplantRenderer renderer = new VoximplantRenderer(mMessenger, mTextures);
-                mRenderers.put(streamId, renderer);
-                videoStream.addVideoRenderer(renderer.getRenderer(), RenderScaleType.SCALE_FIT);
-                Map<String, Object> event = new HashMap<>();
-                event.put("textureId", renderer.getTextureId());
-                mHandler.post(() -> result.success(event));
-                return;
-            }
+        IRemoteVideoStream videoStream = mRemoteVideoStreams.get(streamId);
+        if (videoStream != null) {
+            VoximplantRenderer renderer = mRendererPool.acquire(() -> mTimeline.mark(CallTimeline.FIRST_REMOTE_FRAME));
+            mRenderers.put(streamId, renderer);
+            videoStream.addVideoRenderer(renderer.getRenderer(), RenderScaleType.SCALE_FIT);
+            Map<String, Object> event = new HashMap<>();
+            event.put("textureId", renderer.getTextureId());
+            mHandler.post(() -> result.success(event));
+            return;
         }
         mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Call.addVideoRenderer: Failed to find video stream by id", null));
     }
@@ -327,21 +312,28 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
             VoximplantRenderer renderer = mRenderers.remove(streamId);
             if (renderer != null) {
                 mLocalVideoStream.removeVideoRenderer(renderer.getRenderer());
-                renderer.release();
+                mRendererPool.recycle(renderer, () -> result.success(null));
+            } else {
                 mHandler.post(() -> result.success(null));
             }
             mLocalVideoStream = null;
+            mCallManager.videoStreamRemoved(streamId, this);
         } else {
-            for (Map.Entry<String, IRemoteVideoStream> entry : mRemoteVideoStreams.entrySet()) {
-                if (entry.getKey().equals(streamId)) {
-                    VoximplantRenderer renderer = mRenderers.remove(streamId);
-                    if (renderer != null) {
-                        entry.getValue().removeVideoRenderer(renderer.getRenderer());
-                        renderer.release();
-                        mHandler.post(() -> result.success(null));
-                        break;
-                    }
+            IRemoteVideoStream videoStream = mRemoteVideoStreams.get(streamId);
+            VoximplantRenderer renderer = mRenderers.remove(streamId);
+            if (renderer != null) {
+                // the stream may already be gone, the renderer is recycled anyway
+                if (videoStream != null) {
+                    videoStream.removeVideoRenderer(renderer.getRenderer());
                 }
+                mRendererPool.recycle(renderer, () -> result.success(null));
+            } else {
+                mHandler.post(() -> result.success(null));
+            }
+            mVideoReceiveController.remove(streamId, !mRemovedRemoteVideoStreamIds.contains(streamId));
+            if (mRemovedRemoteVideoStreamIds.remove(streamId)) {
+                mRemoteVideoStreams.remove(streamId);
+                mCallManager.videoStreamRemoved(streamId, this);
             }
         }
     }
@@ -351,20 +343,74 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
     }
 
     private void cleanupResources() {
+        long startNanos = System.nanoTime();
+        List<VoximplantRenderer> renderers = detachRenderers();
+        if (renderers.isEmpty()) {
+            return;
+        }
+        AtomicInteger pending = new AtomicInteger(renderers.size());
+        Runnable onRecycled = () -> {
+            if (pending.decrementAndGet() == 0) {
+                Log.i(TAG_NAME, "CallModule: cleanupResources: " + renderers.size() + " renderers recycled in "
+                        + (System.nanoTime() - startNanos) / 1000000 + " ms");
+            }
+        };
+        for (VoximplantRenderer renderer : renderers) {
+            mRendererPool.recycle(renderer, onRecycled);
+        }
+        Log.i(TAG_NAME, "CallModule: cleanupResources: main thread " + (System.nanoTime() - startNanos) / 1000 + " us");
+    }
+
+    /**
+     * Removes all renderers from the video streams of the call without releasing them.
+     * Must be called on the main thread.
+     */
+    List<VoximplantRenderer> detachRenderers() {
+        List<VoximplantRenderer> renderers = new ArrayList<>();
         if (mLocalVideoStream != null) {
             VoximplantRenderer renderer = mRenderers.remove(mLocalVideoStream.getVideoStreamId());
             if (renderer != null) {
                 mLocalVideoStream.removeVideoRenderer(renderer.getRenderer());
-                renderer.release();
+                renderers.add(renderer);
             }
         }
         for (Map.Entry<String, IRemoteVideoStream> entry : mRemoteVideoStreams.entrySet()) {
             VoximplantRenderer renderer = mRenderers.remove(entry.getKey());
             if (renderer != null) {
                 entry.getValue().removeVideoRenderer(renderer.getRenderer());
-                renderer.release();
+                renderers.add(renderer);
             }
         }
+        return renderers;
+    }
+
+    /**
+     * Stops listening to the call and releases its resources after it has disconnected or failed.
+     * Must be called on the main thread, like all renderer and video stream state is changed.
+     */
+    private void releaseCall() {
+        for (IEndpoint endpoint : mCall.getEndpoints()) {
+            endpoint.setEndpointListener(null);
+        }
+        cleanupResources();
+        mStatsPipeline.stop();
+        mQualityIssueDebouncer.release();
+        mVideoReceiveController.release();
+        if (mStatsRecorder != null) {
+            mStatsRecorder.close();
+        }
+        mCall.removeCallListener(this);
+        mLocalVideoStream = null;
+        mChannels.release();
+        mCallManager.callHasEnded(mCall.getCallId());
+    }
+
+    String getCallId() {
+        return mCall.getCallId();
+    }
+
+    String getChannelId() {
+        return mChannels.getChannelId();
     }
 
     private void startReceiving(MethodCall call, MethodChannel.Result result) {
@@ -402,47 +448,96 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
         }
     }
 
-    private void getCurrentQualityIssues(MethodCall call, MethodChannel.Result result) {
-        Map<QualityIssue, QualityIssueLevel> issues = mCall.getCurrentQualityIssues();
-        mHandler.post(() -> result.success(Utils.convertQualityIssuesMapToHashMap(issues)));
+    private void setVisibility(MethodCall call, MethodChannel.Result result) {
+        String streamId = call.argument("streamId");
+        Boolean visible = call.argument("visible");
+        Integer width = call.argument("width");
+        Integer height = call.argument("height");
+        if (visible == null || width == null || height == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "VideoStream.setVisibility: Invalid arguments", null));
+            return;
+        }
+        IRemoteVideoStream videoStream = mRemoteVideoStreams.get(streamId);
+        if (videoStream != null) {
+            if (!mRemovedRemoteVideoStreamIds.contains(streamId)) {
+                mVideoReceiveController.update(videoStream, visible, width, height);
+            }
+            mHandler.post(() -> result.success(null));
+        } else if (mLocalVideoStream != null && mLocalVideoStream.getVideoStreamId().equals(streamId)) {
+            // the local video is not received
+            mHandler.post(() -> result.success(null));
+        } else {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "VideoStream.setVisibility: Failed to find video stream by id", null));
+        }
     }
 
-    @Override
-    public void onListen(Object arguments, EventChannel.EventSink eventSink) {
-        if (arguments instanceof String) {
-            String type = (String) arguments;
-            if (type.equals("plugins.voximplant.com/call_" + mCall.getCallId())) {
-                mCall.addCallListener(this);
-                mEventSink = eventSink;
+    private void recordQualityIssue(byte issueType, QualityIssueLevel level, double... values) {
+        if (mStatsRecorder != null) {
+            mStatsRecorder.recordQualityIssue(issueType, Utils.convertQualityIssueLevelToInt(level), values);
+        }
+    }
 
-                for (IEndpoint endpoint : mCall.getEndpoints()) {
-                    endpoint.setEndpointListener(this);
+    private void configureStats(MethodCall call, MethodChannel.Result result) {
+        Integer interval = call.argument("interval");
+        Integer fields = call.argument("fields");
+        if (interval == null || interval < 0 || fields == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Call.configureStats: Invalid arguments", null));
+            return;
+        }
+        mStatsPipeline.configure(interval, fields);
+        mHandler.post(() -> result.success(null));
+    }
 
-                }
-            }
-            if (type.equals("plugins.voximplant.com/quality_issues_call_" + mCall.getCallId())) {
-                mCall.setQualityIssueListener(this);
-                mIssuesEventSink = eventSink;
-            }
+    private void getStatsSummary(MethodCall call, MethodChannel.Result result) {
+        Map<String, Object> summary = mStatsAggregator.summary();
+        mHandler.post(() -> result.success(summary));
+    }
+
+    private void setActiveSpeakerSelection(MethodCall call, MethodChannel.Result result) {
+        Integer lastN = call.argument("lastN");
+        List<String> pinned = call.argument("pinned");
+        if (lastN == null || lastN < 0 || pinned == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Call.setActiveSpeakerSelection: Invalid arguments", null));
+            return;
         }
+        if (mSpeakerSelector.configure(lastN, pinned)) {
+            applySpeakerSelection();
+        }
+        mHandler.post(() -> result.success(null));
     }
 
-    @Override
-    public void onCancel(Object arguments) {
-        if (arguments instanceof String) {
-            String type = (String) arguments;
-            if (type.equals("plugins.voximplant.com/call_" + mCall.getCallId())) {
-                mEventSink = null;
+    private void applySpeakerSelection() {
+        for (IEndpoint endpoint : mCall.getEndpoints()) {
+            if (!mSpeakerSelector.hasEndpoint(endpoint.getEndpointId())) {
+                // removed, its streams are removed as well
+                continue;
             }
-            if (type.equals("plugins.voximplant.com/quality_issues_call_" + mCall.getCallId())) {
-                mIssuesEventSink = null;
+            boolean selected = mSpeakerSelector.isSelected(endpoint.getEndpointId());
+            for (IRemoteVideoStream videoStream : endpoint.getVideoStreams()) {
+                mVideoReceiveController.setSelected(videoStream, selected);
             }
         }
+        Map<String, Object> event = new HashMap<>();
+        event.put("event", "activeSpeakerSelectionChanged");
+        event.put("endpointIds", mSpeakerSelector.getSelected());
+        mEventSink.send(event, EventDispatcher.Policy.LATEST, "activeSpeakerSelectionChanged");
+    }
+
+    private void getCurrentQualityIssues(MethodCall call, MethodChannel.Result result) {
+        Number sinceVersion = call.argument("sinceVersion");
+        if (sinceVersion == null) {
+            Map<Integer, Integer> issues = mQualityIssues.toMap();
+            mHandler.post(() -> result.success(issues));
+            return;
+        }
+        Map<String, Object> changes = mQualityIssues.changesSince(sinceVersion.longValue());
+        mHandler.post(() -> result.success(changes));
     }
 
 
     @Override
     public void onCallConnected(ICall call, Map<String, String> headers) {
+        mTimeline.mark(CallTimeline.CONNECTED);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callConnected");
         event.put("headers", headers);
@@ -451,22 +546,20 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onCallDisconnected(ICall call, Map<String, String> headers, boolean answeredElsewhere) {
-        for (IEndpoint endpoint : mCall.getEndpoints()) {
-            endpoint.setEndpointListener(null);
-        }
-        cleanupResources();
-        mCall.removeCallListener(this);
-        mLocalVideoStream = null;
-        mCallManager.callHasEnded(call.getCallId());
+        mTimeline.mark(CallTimeline.DISCONNECTED);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callDisconnected");
         event.put("headers", headers);
         event.put("answeredElsewhere", answeredElsewhere);
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            releaseCall();
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onCallRinging(ICall call, Map<String, String> headers) {
+        mTimeline.mark(CallTimeline.RINGING);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callRinging");
         event.put("headers", headers);
@@ -475,23 +568,21 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onCallFailed(ICall call, int code, String description, Map<String, String> headers) {
-        for (IEndpoint endpoint : mCall.getEndpoints()) {
-            endpoint.setEndpointListener(null);
-        }
-        cleanupResources();
-        mCall.removeCallListener(this);
-        mLocalVideoStream = null;
-        mCallManager.callHasEnded(call.getCallId());
+        mTimeline.mark(CallTimeline.FAILED);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callFailed");
         event.put("code", code);
         event.put("description", description);
         event.put("headers", headers);
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            releaseCall();
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onCallAudioStarted(ICall call) {
+        mTimeline.mark(CallTimeline.AUDIO_STARTED);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callAudioStarted");
         sendCallEvent(event);
@@ -517,30 +608,42 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onLocalVideoStreamAdded(ICall call, ILocalVideoStream videoStream) {
-        if (mLocalVideoStream == null) {
-            mLocalVideoStream = videoStream;
-            Map<String, Object> event = new HashMap<>();
-            event.put("event", "localVideoStreamAdded");
-            event.put("videoStreamId", videoStream.getVideoStreamId());
-            event.put("videoStreamType", Utils.convertVideoStreamTypeToInt(videoStream.getVideoStreamType()));
-            sendCallEvent(event);
-        } else {
-            Log.w(TAG_NAME, "VoximplantPlugin: call: onLocalVideoStreamAdded: local video " +
-                    "stream has been already reported");
-        }
+        // video stream and renderer state is changed on the main thread only
+        mHandler.post(() -> {
+            if (mLocalVideoStream == null) {
+                mLocalVideoStream = videoStream;
+                mCallManager.videoStreamAdded(videoStream.getVideoStreamId(), this);
+                Map<String, Object> event = new HashMap<>();
+                event.put("event", "localVideoStreamAdded");
+                event.put("videoStreamId", videoStream.getVideoStreamId());
+                event.put("videoStreamType", Utils.convertVideoStreamTypeToInt(videoStream.getVideoStreamType()));
+                sendCallEvent(event);
+            } else {
+                Log.w(TAG_NAME, "VoximplantPlugin: call: onLocalVideoStreamAdded: local video " +
+                        "stream has been already reported");
+            }
+        });
     }
 
     @Override
     public void onLocalVideoStreamRemoved(ICall call, ILocalVideoStream videoStream) {
-        if (mLocalVideoStream != null && mLocalVideoStream.getVideoStreamId().equals(videoStream.getVideoStreamId())) {
-            Map<String, Object> event = new HashMap<>();
-            event.put("event", "localVideoStreamRemoved");
-            event.put("videoStreamId", videoStream.getVideoStreamId());
-            sendCallEvent(event);
-        } else {
-            Log.w(TAG_NAME, "VoximplantPlugin: call: onLocalVideoStreamRemoved: video stream id " +
-                    "does not match to previously added video stream");
-        }
+        mHandler.post(() -> {
+            if (mLocalVideoStream != null && mLocalVideoStream.getVideoStreamId().equals(videoStream.getVideoStreamId())) {
+                mStatsAggregator.localStreamRemoved(videoStream.getVideoStreamId());
+                // the stream stays reachable by id until its renderer is removed
+                if (!mRenderers.containsKey(videoStream.getVideoStreamId())) {
+                    mLocalVideoStream = null;
+                    mCallManager.videoStreamRemoved(videoStream.getVideoStreamId(), this);
+                }
+                Map<String, Object> event = new HashMap<>();
+                event.put("event", "localVideoStreamRemoved");
+                event.put("videoStreamId", videoStream.getVideoStreamId());
+                sendCallEvent(event);
+            } else {
+                Log.w(TAG_NAME, "VoximplantPlugin: call: onLocalVideoStreamRemoved: video stream id " +
+                        "does not match to previously added video stream");
+            }
+        });
     }
 
     @Override
@@ -552,6 +655,7 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onICECompleted(ICall call) {
+        mTimeline.mark(CallTimeline.ICE_COMPLETED);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "iceCompleted");
         sendCallEvent(event);
@@ -559,26 +663,35 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onEndpointAdded(ICall call, IEndpoint endpoint) {
-        if (mEventSink != null) {
-            endpoint.setEndpointListener(this);
-        }
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "endpointAdded");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("endpointUserName", endpoint.getUserName());
-        event.put("endpointDisplayName", endpoint.getUserDisplayName());
-        event.put("endpointSipUri", endpoint.getSipUri());
-        event.put("endpointPlace", endpoint.getPlace());
-        sendCallEvent(event);
+        endpoint.setEndpointListener(this);
+        // the speaker selection is changed on the main thread only
+        mHandler.post(() -> {
+            if (mSpeakerSelector.endpointAdded(endpoint.getEndpointId())) {
+                applySpeakerSelection();
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "endpointAdded");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("endpointUserName", endpoint.getUserName());
+            event.put("endpointDisplayName", endpoint.getUserDisplayName());
+            event.put("endpointSipUri", endpoint.getSipUri());
+            event.put("endpointPlace", endpoint.getPlace());
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onCallStatsReceived(ICall call, CallStats callStats) {
-
+        mStatsPipeline.capture(callStats);
+        mStatsAggregator.capture(callStats);
+        if (mStatsRecorder != null) {
+            mStatsRecorder.recordStats(callStats);
+        }
     }
 
     @Override
     public void onCallReconnecting(ICall call) {
+        mTimeline.mark(CallTimeline.RECONNECTING);
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callReconnecting");
         sendCallEvent(event);
@@ -586,6 +699,8 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onCallReconnected(ICall call) {
+        mTimeline.mark(CallTimeline.RECONNECTED);
+        mQualityIssues.reset(mCall.getCurrentQualityIssues());
         Map<String, Object> event = new HashMap<>();
         event.put("event", "callReconnected");
         sendCallEvent(event);
@@ -593,100 +708,168 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
 
     @Override
     public void onRemoteVideoStreamAdded(IEndpoint endpoint, IRemoteVideoStream videoStream) {
-        mRemoteVideoStreams.put(videoStream.getVideoStreamId(), videoStream);
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "remoteVideoStreamAdded");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("videoStreamId", videoStream.getVideoStreamId());
-        event.put("videoStreamType", Utils.convertVideoStreamTypeToInt(videoStream.getVideoStreamType()));
-        sendCallEvent(event);
+        // video stream and renderer state is changed on the main thread only
+        mHandler.post(() -> {
+            mRemoteVideoStreams.put(videoStream.getVideoStreamId(), videoStream);
+            if (!mSpeakerSelector.isSelected(endpoint.getEndpointId())) {
+                mVideoReceiveController.setSelected(videoStream, false);
+            }
+            mCallManager.videoStreamAdded(videoStream.getVideoStreamId(), this);
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "remoteVideoStreamAdded");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("videoStreamId", videoStream.getVideoStreamId());
+            event.put("videoStreamType", Utils.convertVideoStreamTypeToInt(videoStream.getVideoStreamType()));
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onRemoteVideoStreamRemoved(IEndpoint endpoint, IRemoteVideoStream videoStream) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "remoteVideoStreamRemoved");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("videoStreamId", videoStream.getVideoStreamId());
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            // the stream stays reachable by id until its renderer is removed
+            String streamId = videoStream.getVideoStreamId();
+            mVideoReceiveController.remove(streamId, false);
+            mQualityIssues.streamRemoved(streamId);
+            mStatsAggregator.streamRemoved(endpoint.getEndpointId(), streamId);
+            if (mRenderers.containsKey(streamId)) {
+                mRemovedRemoteVideoStreamIds.add(streamId);
+            } else {
+                mRemoteVideoStreams.remove(streamId);
+                mCallManager.videoStreamRemoved(streamId, this);
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "remoteVideoStreamRemoved");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("videoStreamId", videoStream.getVideoStreamId());
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onEndpointRemoved(IEndpoint endpoint) {
         endpoint.setEndpointListener(null);
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "endpointRemoved");
-        event.put("endpointId", endpoint.getEndpointId());
-        sendCallEvent(event);
+        // audio streams are not reported removed, they go with their endpoint
+        mQualityIssues.endpointRemoved(endpoint.getEndpointId());
+        mStatsAggregator.endpointRemoved(endpoint.getEndpointId());
+        mHandler.post(() -> {
+            if (mSpeakerSelector.endpointRemoved(endpoint.getEndpointId())) {
+                applySpeakerSelection();
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "endpointRemoved");
+            event.put("endpointId", endpoint.getEndpointId());
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onEndpointInfoUpdated(IEndpoint endpoint) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "endpointInfoUpdated");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("endpointUserName", endpoint.getUserName());
-        event.put("endpointDisplayName", endpoint.getUserDisplayName());
-        event.put("endpointSipUri", endpoint.getSipUri());
-        event.put("endpointPlace", endpoint.getPlace());
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "endpointInfoUpdated");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("endpointUserName", endpoint.getUserName());
+            event.put("endpointDisplayName", endpoint.getUserDisplayName());
+            event.put("endpointSipUri", endpoint.getSipUri());
+            event.put("endpointPlace", endpoint.getPlace());
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onVoiceActivityStarted(IEndpoint endpoint) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "endpointVoiceActivityStarted");
-        event.put("endpointId", endpoint.getEndpointId());
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            if (mSpeakerSelector.voiceActivityStarted(endpoint.getEndpointId())) {
+                applySpeakerSelection();
+            }
+            if (BinaryEventCodec.isEnabled()) {
+                sendVoiceActivityEvent(endpoint, BinaryEventCodec.voiceActivity(BinaryEventCodec.VOICE_ACTIVITY_STARTED, endpoint.getEndpointId()));
+                return;
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "endpointVoiceActivityStarted");
+            event.put("endpointId", endpoint.getEndpointId());
+            sendVoiceActivityEvent(endpoint, event);
+        });
     }
 
     @Override
     public void onVoiceActivityStopped(IEndpoint endpoint) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "endpointVoiceActivityStopped");
-        event.put("endpointId", endpoint.getEndpointId());
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            if (BinaryEventCodec.isEnabled()) {
+                sendVoiceActivityEvent(endpoint, BinaryEventCodec.voiceActivity(BinaryEventCodec.VOICE_ACTIVITY_STOPPED, endpoint.getEndpointId()));
+                return;
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "endpointVoiceActivityStopped");
+            event.put("endpointId", endpoint.getEndpointId());
+            sendVoiceActivityEvent(endpoint, event);
+        });
     }
 
     @Override
     public void onStartReceivingVideoStream(@NonNull IEndpoint endpoint, @NonNull IRemoteVideoStream videoStream) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "startReceivingVideoStream");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("videoStreamId", videoStream.getVideoStreamId());
-        sendCallEvent(event);
+        // sent after the stream events posted before
+        mHandler.post(() -> {
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "startReceivingVideoStream");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("videoStreamId", videoStream.getVideoStreamId());
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onStopReceivingVideoStream(@NonNull IEndpoint endpoint, @NonNull IRemoteVideoStream videoStream, @NonNull VideoStreamReceiveStopReason reason) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "stopReceivingVideoStream");
-        event.put("endpointId", endpoint.getEndpointId());
-        event.put("videoStreamId", videoStream.getVideoStreamId());
-        event.put("reason", Utils.convertVideoStreamReceiveStopReasonToInt(reason));
-        sendCallEvent(event);
+        mHandler.post(() -> {
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "stopReceivingVideoStream");
+            event.put("endpointId", endpoint.getEndpointId());
+            event.put("videoStreamId", videoStream.getVideoStreamId());
+            event.put("reason", Utils.convertVideoStreamReceiveStopReasonToInt(reason));
+            sendCallEvent(event);
+        });
     }
 
     @Override
     public void onPacketLoss(@NonNull ICall call, @NonNull QualityIssueLevel level, double packetLoss) {
+        recordQualityIssue(BinaryEventCodec.PACKET_LOSS, level, packetLoss);
+        mQualityIssues.update(QualityIssue.PACKET_LOSS, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.qualityIssue(BinaryEventCodec.PACKET_LOSS, Utils.convertQualityIssueLevelToInt(level), packetLoss), "VIQualityIssueTypePacketLoss", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypePacketLoss");
         event.put("packetLoss", packetLoss);
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypePacketLoss", null, level);
     }
 
     @Override
     public void onCodecMismatch(@NonNull ICall call, @NonNull QualityIssueLevel level, @Nullable String sendCodec) {
+        recordQualityIssue(BinaryEventCodec.CODEC_MISMATCH, level);
+        mQualityIssues.update(QualityIssue.CODEC_MISMATCH, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.codecMismatch(Utils.convertQualityIssueLevelToInt(level), sendCodec), "VIQualityIssueTypeCodecMismatch", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeCodecMismatch");
         event.put("codec", sendCodec);
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeCodecMismatch", null, level);
     }
 
     @Override
     public void onLocalVideoDegradation(@NonNull ICall call, @NonNull QualityIssueLevel level, int targetWidth, int targetHeight, int actualWidth, int actualHeight) {
+        recordQualityIssue(BinaryEventCodec.LOCAL_VIDEO_DEGRADATION, level, targetWidth, targetHeight, actualWidth, actualHeight);
+        mQualityIssues.update(QualityIssue.LOCAL_VIDEO_DEGRADATION, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.localVideoDegradation(Utils.convertQualityIssueLevelToInt(level), targetWidth, targetHeight, actualWidth, actualHeight), "VIQualityIssueTypeLocalVideoDegradation", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
 
         Map<String, Object> actualSizeStruct = new HashMap<>();
@@ -701,64 +884,95 @@ public class CallModule implements ICallListener, IEndpointListener, IQualityIss
         event.put("actualSizeStruct", actualSizeStruct);
         event.put("targetSizeStruct", targetSizeStruct);
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeLocalVideoDegradation", null, level);
     }
 
     @Override
     public void onIceDisconnected(@NonNull ICall call, @NonNull QualityIssueLevel level) {
+        recordQualityIssue(BinaryEventCodec.ICE_DISCONNECTED, level);
+        mQualityIssues.update(QualityIssue.ICE_DISCONNECTED, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.qualityIssue(BinaryEventCodec.ICE_DISCONNECTED, Utils.convertQualityIssueLevelToInt(level)), "VIQualityIssueTypeIceDisconnected", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeIceDisconnected");
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeIceDisconnected", null, level);
     }
 
     @Override
     public void onHighMediaLatency(@NonNull ICall call, @NonNull QualityIssueLevel level, double latency) {
+        recordQualityIssue(BinaryEventCodec.HIGH_MEDIA_LATENCY, level, latency);
+        mQualityIssues.update(QualityIssue.HIGH_MEDIA_LATENCY, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.qualityIssue(BinaryEventCodec.HIGH_MEDIA_LATENCY, Utils.convertQualityIssueLevelToInt(level), latency), "VIQualityIssueTypeHighMediaLatency", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeHighMediaLatency");
         event.put("latency", latency);
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeHighMediaLatency", null, level);
     }
 
     @Override
     public void onNoAudioSignal(@NonNull ICall call, @NonNull QualityIssueLevel level) {
+        recordQualityIssue(BinaryEventCodec.NO_AUDIO_SIGNAL, level);
+        mQualityIssues.update(QualityIssue.NO_AUDIO_SIGNAL, level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.qualityIssue(BinaryEventCodec.NO_AUDIO_SIGNAL, Utils.convertQualityIssueLevelToInt(level)), "VIQualityIssueTypeNoAudioSignal", null, level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeNoAudioSignal");
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeNoAudioSignal", null, level);
     }
 
     @Override
     public void onNoAudioReceive(@NonNull ICall call, @NonNull QualityIssueLevel level, @NonNull IRemoteAudioStream audioStream, @NonNull IEndpoint endpoint) {
+        recordQualityIssue(BinaryEventCodec.NO_AUDIO_RECEIVE, level);
+        mQualityIssues.update(QualityIssue.NO_AUDIO_RECEIVE, audioStream.getAudioStreamId(), endpoint.getEndpointId(), level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.noMediaReceive(BinaryEventCodec.NO_AUDIO_RECEIVE, Utils.convertQualityIssueLevelToInt(level), audioStream.getAudioStreamId(), endpoint.getEndpointId()), "VIQualityIssueTypeNoAudioReceive", audioStream.getAudioStreamId(), level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeNoAudioReceive");
         event.put("audiostreamId", audioStream.getAudioStreamId());
         event.put("endpointId", endpoint.getEndpointId());
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeNoAudioReceive", audioStream.getAudioStreamId(), level);
     }
 
     @Override
     public void onNoVideoReceive(@NonNull ICall call, @NonNull QualityIssueLevel level, @NonNull IRemoteVideoStream videoStream, @NonNull IEndpoint endpoint) {
+        recordQualityIssue(BinaryEventCodec.NO_VIDEO_RECEIVE, level);
+        mQualityIssues.update(QualityIssue.NO_VIDEO_RECEIVE, videoStream.getVideoStreamId(), endpoint.getEndpointId(), level);
+        if (BinaryEventCodec.isEnabled()) {
+            sendQualityIssueEvent(BinaryEventCodec.noMediaReceive(BinaryEventCodec.NO_VIDEO_RECEIVE, Utils.convertQualityIssueLevelToInt(level), videoStream.getVideoStreamId(), endpoint.getEndpointId()), "VIQualityIssueTypeNoVideoReceive", videoStream.getVideoStreamId(), level);
+            return;
+        }
         Map<String, Object> event = new HashMap<>();
         event.put("event", "VIQualityIssueTypeNoVideoReceive");
         event.put("videostreamId", videoStream.getVideoStreamId());
         event.put("endpointId", endpoint.getEndpointId());
         event.put("issueLevel", Utils.convertQualityIssueLevelToInt(level));
-        sendQualityIssueEvent(event);
+        sendQualityIssueEvent(event, "VIQualityIssueTypeNoVideoReceive", videoStream.getVideoStreamId(), level);
     }
 
-    private void sendCallEvent(Map<String, Object> event) {
-        if (mEventSink != null) {
-            mHandler.post(() -> mEventSink.success(event));
-        }
+    private void sendCallEvent(Object event) {
+        mEventSink.send(event);
     }
 
-    private void sendQualityIssueEvent(Map<String, Object> event) {
-        if (mIssuesEventSink != null) {
-            mHandler.post(() -> mIssuesEventSink.success(event));
-        }
+    private void sendVoiceActivityEvent(IEndpoint endpoint, Object event) {
+        mEventSink.send(event, EventDispatcher.Policy.TOGGLE, endpoint.getEndpointId());
+    }
+
+    private void sendQualityIssueEvent(Object event, String issueType, @Nullable String streamId, QualityIssueLevel level) {
+        String issueKey = streamId != null ? issueType + streamId : issueType;
+        mQualityIssueDebouncer.submit(event, issueType, issueKey, Utils.convertQualityIssueLevelToInt(level));
     }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Keeps the timelines of recent calls and latency histograms of call setup stages, served via
+ * "Metrics.callTimeline", "Metrics.callSetup" and "Metrics.resetCallSetup".
+ *
+ * Histograms are keyed by "direction.stage" (e.g. "outgoing.connected") for the time since the
+ * call start, "answered.stage" for the time since an incoming call was answered and "reconnect"
+ * for reconnection durations.
+ */
+class CallSetupMetrics {
+    private static final int MAX_TIMELINES = 32;
+
+    private static CallSetupMetrics sInstance;
+
+    private final ConcurrentHashMap<String, LatencyHistogram> mStageLatencies = new ConcurrentHashMap<>();
+    private final Map<String, CallTimeline> mTimelines = new LinkedHashMap<String, CallTimeline>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CallTimeline> eldest) {
+            return size() > MAX_TIMELINES;
+        }
+    };
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    static synchronized CallSetupMetrics getInstance() {
+        if (sInstance == null) {
+            sInstance = new CallSetupMetrics();
+        }
+        return sInstance;
+    }
+
+    private CallSetupMetrics() {}
+
+    void registerMethods(MethodRouter router) {
+        router.register(MetricsModule.TYPE, "callTimeline", this::getCallTimeline);
+        router.register(MetricsModule.TYPE, "callSetup", (call, result) -> snapshot(result));
+        router.register(MetricsModule.TYPE, "resetCallSetup", (call, result) -> reset(result));
+    }
+
+    /**
+     * Starts the timeline of a call. The oldest timelines are forgotten when there are too many.
+     */
+    CallTimeline startTimeline(@NonNull String callId, @NonNull String direction, long startNanos) {
+        CallTimeline timeline = new CallTimeline(this, direction, startNanos);
+        synchronized (mTimelines) {
+            mTimelines.put(callId, timeline);
+        }
+        return timeline;
+    }
+
+    void record(@NonNull String name, long durationNanos) {
+        LatencyHistogram histogram = mStageLatencies.get(name);
+        if (histogram == null) {
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = mStageLatencies.putIfAbsent(name, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(durationNanos);
+    }
+
+    private void getCallTimeline(MethodCall call, MethodChannel.Result result) {
+        String callId = call.argument("callId");
+        if (callId == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Metrics.callTimeline: Invalid callId", null));
+            return;
+        }
+        CallTimeline timeline;
+        synchronized (mTimelines) {
+            timeline = mTimelines.get(callId);
+        }
+        if (timeline == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Metrics.callTimeline: Failed to find call for callId: " + callId, null));
+            return;
+        }
+        List<Map<String, Object>> stages = timeline.toList();
+        mHandler.post(() -> result.success(stages));
+    }
+
+    private void snapshot(MethodChannel.Result result) {
+        Map<String, Object> snapshot = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : mStageLatencies.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        mHandler.post(() -> result.success(snapshot));
+    }
+
+    private void reset(MethodChannel.Result result) {
+        for (LatencyHistogram histogram : mStageLatencies.values()) {
+            histogram.reset();
+        }
+        mHandler.post(() -> result.success(null));
+    }
+}
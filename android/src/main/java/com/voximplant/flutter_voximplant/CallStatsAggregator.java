@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.voximplant.sdk.call.CallStats;
+import com.voximplant.sdk.call.EndpointStats;
+import com.voximplant.sdk.call.InboundAudioStats;
+import com.voximplant.sdk.call.InboundVideoStats;
+import com.voximplant.sdk.call.OutboundAudioStats;
+import com.voximplant.sdk.call.OutboundVideoStats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rolling statistics of a call over the last 10 seconds, the last minute and the call lifetime.
+ *
+ * The call has RTT, packet loss and incoming/outgoing bitrate. Remote streams, grouped by
+ * endpoint, have jitter buffer delay, packet loss, bitrate and, for video, frame rate. Local
+ * streams have bitrate and, for video, frame rate. Packet loss is the fraction of packets lost and
+ * bitrates are in bits per second, both computed from counter deltas between samples.
+ * The SDK counters are expected to be totals since the start of the call. A counter that goes
+ * back is taken as a new start and gives no sample, so it can never produce a negative rate.
+ *
+ * Series of removed endpoints and streams are dropped, see {@link #endpointRemoved} and
+ * {@link #streamRemoved}.
+ */
+class CallStatsAggregator {
+    private static final long SHORT_WINDOW_MS = 10000;
+    private static final long LONG_WINDOW_MS = 60000;
+
+    private static class Counters {
+        long bytes;
+        long packetsLost;
+        long packetsReceived;
+        long timeMs = -1;
+
+        /**
+         * Updates the counters and records bitrate and packet loss since the previous sample.
+         */
+        void update(long timeMs, long bytes, long packetsLost, long packetsReceived,
+                    @NonNull RollingStats bitrate, RollingStats packetLoss) {
+            if (this.timeMs >= 0 && timeMs > this.timeMs && bytes >= this.bytes
+                    && packetsLost >= this.packetsLost && packetsReceived >= this.packetsReceived) {
+                bitrate.add(timeMs, (bytes - this.bytes) * 8 * 1000.0 / (timeMs - this.timeMs));
+                long lost = packetsLost - this.packetsLost;
+                long total = lost + packetsReceived - this.packetsReceived;
+                if (packetLoss != null && total > 0) {
+                    packetLoss.add(timeMs, (double) lost / total);
+                }
+            }
+            this.bytes = bytes;
+            this.packetsLost = packetsLost;
+            this.packetsReceived = packetsReceived;
+            this.timeMs = timeMs;
+        }
+    }
+
+    private static class StreamSeries {
+        final RollingStats jitter = new RollingStats();
+        final RollingStats packetLoss = new RollingStats();
+        final RollingStats bitrate = new RollingStats();
+        final RollingStats frameRate = new RollingStats();
+        final Counters counters = new Counters();
+    }
+
+    private final RollingStats mRtt = new RollingStats();
+    private final RollingStats mPacketLoss = new RollingStats();
+    private final RollingStats mIncomingBitrate = new RollingStats();
+    private final RollingStats mOutgoingBitrate = new RollingStats();
+    private final Counters mIncomingCounters = new Counters();
+    private final Counters mOutgoingCounters = new Counters();
+    // endpoint id -> stream id -> series
+    private final Map<String, Map<String, StreamSeries>> mRemoteStreams = new HashMap<>();
+    private final Map<String, StreamSeries> mLocalStreams = new HashMap<>();
+    private final double[] mScratch = new double[RollingStats.CAPACITY];
+
+    synchronized void capture(@NonNull CallStats stats) {
+        long now = SystemClock.elapsedRealtime();
+        mRtt.add(now, stats.rtt);
+        // Counters are cast as the SDK does not document their numeric types
+        mIncomingCounters.update(now, (long) stats.totalBytesReceived, (long) stats.totalPacketsLost,
+                (long) stats.totalPacketsReceived, mIncomingBitrate, mPacketLoss);
+        mOutgoingCounters.update(now, (long) stats.totalBytesSent, 0, 0, mOutgoingBitrate, null);
+
+        if (stats.endpointStats != null) {
+            for (Map.Entry<String, EndpointStats> endpoint : stats.endpointStats.entrySet()) {
+                Map<String, StreamSeries> streams = mRemoteStreams.get(endpoint.getKey());
+                if (streams == null) {
+                    streams = new HashMap<>();
+                    mRemoteStreams.put(endpoint.getKey(), streams);
+                }
+                EndpointStats endpointStats = endpoint.getValue();
+                if (endpointStats.remoteAudioStats != null) {
+                    for (Map.Entry<String, InboundAudioStats> entry : endpointStats.remoteAudioStats.entrySet()) {
+                        InboundAudioStats audio = entry.getValue();
+                        StreamSeries series = getSeries(streams, entry.getKey());
+                        series.jitter.add(now, audio.jitterBufferMs);
+                        series.counters.update(now, (long) audio.bytesReceived, (long) audio.packetsLost,
+                                (long) audio.packetsReceived, series.bitrate, series.packetLoss);
+                    }
+                }
+                if (endpointStats.remoteVideoStats != null) {
+                    for (Map.Entry<String, InboundVideoStats> entry : endpointStats.remoteVideoStats.entrySet()) {
+                        InboundVideoStats video = entry.getValue();
+                        StreamSeries series = getSeries(streams, entry.getKey());
+                        series.jitter.add(now, video.jitterBufferMs);
+                        series.frameRate.add(now, video.fps);
+                        series.counters.update(now, (long) video.bytesReceived, (long) video.packetsLost,
+                                (long) video.packetsReceived, series.bitrate, series.packetLoss);
+                    }
+                }
+            }
+        }
+        if (stats.localAudioStats != null) {
+            for (Map.Entry<String, OutboundAudioStats> entry : stats.localAudioStats.entrySet()) {
+                StreamSeries series = getSeries(mLocalStreams, entry.getKey());
+                series.counters.update(now, (long) entry.getValue().bytesSent, 0, 0, series.bitrate, null);
+            }
+        }
+        if (stats.localVideoStats != null) {
+            for (Map.Entry<String, OutboundVideoStats> entry : stats.localVideoStats.entrySet()) {
+                OutboundVideoStats video = entry.getValue();
+                StreamSeries series = getSeries(mLocalStreams, entry.getKey());
+                series.frameRate.add(now, video.fps);
+                series.counters.update(now, (long) video.bytesSent, 0, 0, series.bitrate, null);
+            }
+        }
+    }
+
+    synchronized void endpointRemoved(@NonNull String endpointId) {
+        mRemoteStreams.remove(endpointId);
+    }
+
+    synchronized void streamRemoved(@NonNull String endpointId, @NonNull String streamId) {
+        Map<String, StreamSeries> streams = mRemoteStreams.get(endpointId);
+        if (streams != null) {
+            streams.remove(streamId);
+        }
+    }
+
+    synchronized void localStreamRemoved(@NonNull String streamId) {
+        mLocalStreams.remove(streamId);
+    }
+
+    /**
+     * Returns {call, endpoints: {endpointId: {streamId: ...}}, localStreams: {streamId: ...}},
+     * each metric with "10s", "60s" and "lifetime" summaries.
+     */
+    synchronized Map<String, Object> summary() {
+        long now = SystemClock.elapsedRealtime();
+        Map<String, Object> call = new HashMap<>();
+        put(call, "rtt", mRtt, now);
+        put(call, "packetLoss", mPacketLoss, now);
+        put(call, "incomingBitrate", mIncomingBitrate, now);
+        put(call, "outgoingBitrate", mOutgoingBitrate, now);
+
+        Map<String, Object> endpoints = new HashMap<>();
+        for (Map.Entry<String, Map<String, StreamSeries>> endpoint : mRemoteStreams.entrySet()) {
+            Map<String, Object> streams = new HashMap<>();
+            for (Map.Entry<String, StreamSeries> stream : endpoint.getValue().entrySet()) {
+                streams.put(stream.getKey(), streamSummary(stream.getValue(), now));
+            }
+            endpoints.put(endpoint.getKey(), streams);
+        }
+        Map<String, Object> localStreams = new HashMap<>();
+        for (Map.Entry<String, StreamSeries> stream : mLocalStreams.entrySet()) {
+            localStreams.put(stream.getKey(), streamSummary(stream.getValue(), now));
+        }
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("call", call);
+        summary.put("endpoints", endpoints);
+        summary.put("localStreams", localStreams);
+        return summary;
+    }
+
+    private Map<String, Object> streamSummary(StreamSeries series, long now) {
+        Map<String, Object> summary = new HashMap<>();
+        put(summary, "jitter", series.jitter, now);
+        put(summary, "packetLoss", series.packetLoss, now);
+        put(summary, "bitrate", series.bitrate, now);
+        put(summary, "frameRate", series.frameRate, now);
+        return summary;
+    }
+
+    private void put(Map<String, Object> summary, String metric, RollingStats stats, long now) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Map<String, Object> windows = new HashMap<>();
+        windows.put("10s", stats.window(now, SHORT_WINDOW_MS, mScratch));
+        windows.put("60s", stats.window(now, LONG_WINDOW_MS, mScratch));
+        windows.put("lifetime", stats.lifetime());
+        summary.put(metric, windows);
+    }
+
+    private static StreamSeries getSeries(Map<String, StreamSeries> streams, String streamId) {
+        StreamSeries series = streams.get(streamId);
+        if (series == null) {
+            series = new StreamSeries();
+            streams.put(streamId, series);
+        }
+        return series;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.voximplant.sdk.call.CallStats;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Captures call statistics into a preallocated ring buffer and delivers them to the per-call
+ * stats channel while Dart listens to it.
+ *
+ * Samples are emitted every interval, all samples captured since the previous emission at once,
+ * or as soon as they are captured if a selected field has changed when the interval is 0.
+ * Only the selected fields are sent, as a byte array: a format version, the u16 field mask,
+ * the u16 sample count, then each sample as an i64 timestamp followed by a f64 per selected field
+ * in field bit order, little endian. The layout must match lib/src/call/call_stats.dart.
+ */
+class CallStatsPipeline implements EventChannel.StreamHandler {
+    static final int RTT = 1;
+    static final int AVAILABLE_INCOMING_BITRATE = 1 << 1;
+    static final int AVAILABLE_OUTGOING_BITRATE = 1 << 2;
+    static final int PACKETS_LOST = 1 << 3;
+    static final int PACKETS_SENT = 1 << 4;
+    static final int BYTES_SENT = 1 << 5;
+    static final int PACKETS_RECEIVED = 1 << 6;
+    static final int BYTES_RECEIVED = 1 << 7;
+    static final int FIELD_COUNT = 8;
+    static final int ALL_FIELDS = (1 << FIELD_COUNT) - 1;
+
+    static final int DEFAULT_INTERVAL_MS = 5000;
+    private static final int CAPACITY = 64;
+    private static final byte VERSION = 1;
+
+    private final EventDispatcher mEventDispatcher = EventDispatcher.getInstance();
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mEmit = this::emitAndReschedule;
+    private final Runnable mEmitChanged = this::emit;
+
+    // Guarded by this. Sample i lives at index i % CAPACITY.
+    private final long[] mTimestamps = new long[CAPACITY];
+    private final double[] mValues = new double[CAPACITY * FIELD_COUNT];
+    private final double[] mEmittedValues = new double[FIELD_COUNT];
+    private long mCaptured;
+    private long mEmitted;
+    private int mFieldMask = ALL_FIELDS;
+    private int mIntervalMs = DEFAULT_INTERVAL_MS;
+    // Accessed on the main thread
+    private EventChannel.EventSink mSink;
+
+    /**
+     * Stores the stats into the ring buffer, overwriting the oldest sample when it is full.
+     */
+    void capture(@NonNull CallStats stats) {
+        boolean emitNow;
+        synchronized (this) {
+            int offset = (int) (mCaptured % CAPACITY) * FIELD_COUNT;
+            // the SDK may declare the timestamp as a double, the values are widened to double anyway
+            mTimestamps[(int) (mCaptured % CAPACITY)] = (long) stats.timestamp;
+            mValues[offset] = stats.rtt;
+            mValues[offset + 1] = stats.availableIncomingBitrate;
+            mValues[offset + 2] = stats.availableOutgoingBitrate;
+            mValues[offset + 3] = stats.totalPacketsLost;
+            mValues[offset + 4] = stats.totalPacketsSent;
+            mValues[offset + 5] = stats.totalBytesSent;
+            mValues[offset + 6] = stats.totalPacketsReceived;
+            mValues[offset + 7] = stats.totalBytesReceived;
+            mCaptured++;
+            emitNow = mIntervalMs == 0 && hasChanged(offset);
+        }
+        if (emitNow) {
+            mHandler.post(mEmitChanged);
+        }
+    }
+
+    /**
+     * Sets the emission interval (0 to emit on change) and the mask of fields to send.
+     * Must be called on the main thread.
+     */
+    void configure(int intervalMs, int fieldMask) {
+        synchronized (this) {
+            mIntervalMs = intervalMs;
+            mFieldMask = fieldMask & ALL_FIELDS;
+        }
+        if (mSink != null) {
+            mHandler.removeCallbacks(mEmit);
+            if (intervalMs > 0) {
+                mHandler.postDelayed(mEmit, intervalMs);
+            }
+        }
+    }
+
+    /**
+     * Stops emitting. Must be called on the main thread.
+     */
+    void stop() {
+        mHandler.removeCallbacks(mEmit);
+        mHandler.removeCallbacks(mEmitChanged);
+        mSink = null;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        mSink = events;
+        int intervalMs;
+        synchronized (this) {
+            intervalMs = mIntervalMs;
+        }
+        mHandler.removeCallbacks(mEmit);
+        if (intervalMs > 0) {
+            mHandler.postDelayed(mEmit, intervalMs);
+        }
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        stop();
+    }
+
+    private boolean hasChanged(int offset) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if ((mFieldMask & (1 << field)) != 0 && mValues[offset + field] != mEmittedValues[field]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void emitAndReschedule() {
+        emit();
+        int intervalMs;
+        synchronized (this) {
+            intervalMs = mIntervalMs;
+        }
+        if (mSink != null && intervalMs > 0) {
+            mHandler.postDelayed(mEmit, intervalMs);
+        }
+    }
+
+    private void emit() {
+        EventChannel.EventSink sink = mSink;
+        if (sink == null) {
+            return;
+        }
+        byte[] packet;
+        synchronized (this) {
+            long first = Math.max(mEmitted, mCaptured - CAPACITY);
+            int count = (int) (mCaptured - first);
+            if (count == 0) {
+                return;
+            }
+            int fields = Integer.bitCount(mFieldMask);
+            packet = new byte[5 + count * (8 + fields * 8)];
+            ByteBuffer buffer = ByteBuffer.wrap(packet).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(VERSION).putShort((short) mFieldMask).putShort((short) count);
+            for (long sample = first; sample < mCaptured; sample++) {
+                int index = (int) (sample % CAPACITY);
+                buffer.putLong(mTimestamps[index]);
+                for (int field = 0; field < FIELD_COUNT; field++) {
+                    if ((mFieldMask & (1 << field)) != 0) {
+                        buffer.putDouble(mValues[index * FIELD_COUNT + field]);
+                    }
+                }
+            }
+            System.arraycopy(mValues, (int) ((mCaptured - 1) % CAPACITY) * FIELD_COUNT, mEmittedValues, 0, FIELD_COUNT);
+            mEmitted = mCaptured;
+        }
+        mEventDispatcher.send(sink, packet, EventDispatcher.Policy.DROPPABLE, null);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.voximplant.sdk.call.CallStats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Opt-in recorder of call statistics and quality issues into a memory-mapped file per call,
+ * enabled from Dart via "Metrics.setStatsRecording".
+ *
+ * The file is a 32 byte header followed by a ring of fixed size records, so it never grows over
+ * the configured size and keeps the latest records. Records are written straight into the mapped
+ * pages, which the system writes back even if the app crashes. Little endian layout:
+ *
+ * header: u32 magic "VXSR", u16 version, u16 record size, u32 capacity, u32 reserved,
+ *         u64 records written, i64 wall clock time of the start in ms
+ * record: u8 type (1 - stats, 2 - quality issue), u8 issue type (BinaryEventCodec tag), u8 level,
+ *         5 bytes reserved, i64 time since the start in ms, then 8 slots of 8 bytes:
+ *         stats - f64 rtt, f64 available incoming bitrate, f64 available outgoing bitrate,
+ *                 i64 packets lost, i64 packets sent, i64 bytes sent, i64 packets received,
+ *                 i64 bytes received
+ *         quality issue - f64 values of the issue (packet loss, latency or target and actual
+ *                 width and height for local video degradation), unused slots are 0
+ *
+ * Stats counters are stored as the SDK reports them, expected to be totals since the start of
+ * the call.
+ *
+ * tools/CallStatsDecoder.java decodes these files, the layouts must match.
+ */
+class CallStatsRecorder {
+    private static final String TAG_NAME = "VOXFLUTTER";
+    static final int MAGIC = 0x52535856;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 80;
+    static final byte RECORD_STATS = 1;
+    static final byte RECORD_QUALITY_ISSUE = 2;
+    private static final int COUNT_OFFSET = 16;
+    private static final int MIN_CAPACITY = 16;
+    static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static volatile File sDirectory;
+    private static volatile int sMaxBytes = DEFAULT_MAX_BYTES;
+
+    private final MappedByteBuffer mBuffer;
+    private final int mCapacity;
+    private final long mStartTime = SystemClock.elapsedRealtime();
+    private long mCount;
+    private boolean mClosed;
+
+    static void registerMethods(MethodRouter router) {
+        router.register(MetricsModule.TYPE, "setStatsRecording", CallStatsRecorder::setRecording);
+    }
+
+    private static void setRecording(MethodCall call, MethodChannel.Result result) {
+        Handler handler = new Handler(Looper.getMainLooper());
+        String directory = call.argument("directory");
+        Integer maxBytes = call.argument("maxBytes");
+        if (maxBytes == null || maxBytes < HEADER_SIZE + MIN_CAPACITY * RECORD_SIZE) {
+            handler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Metrics.setStatsRecording: Invalid maxBytes", null));
+            return;
+        }
+        if (directory != null && !new File(directory).isDirectory()) {
+            handler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Metrics.setStatsRecording: Directory does not exist", null));
+            return;
+        }
+        sMaxBytes = maxBytes;
+        sDirectory = directory != null ? new File(directory) : null;
+        handler.post(() -> result.success(null));
+    }
+
+    /**
+     * Returns a recorder for the call, or null if recording is disabled or the file cannot be
+     * mapped.
+     */
+    @Nullable
+    static CallStatsRecorder open(@NonNull String callId) {
+        File directory = sDirectory;
+        if (directory == null) {
+            return null;
+        }
+        File file = new File(directory, callId.replaceAll("[^A-Za-z0-9._-]", "_") + ".vxstats");
+        int capacity = (sMaxBytes - HEADER_SIZE) / RECORD_SIZE;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(0);
+            MappedByteBuffer buffer = randomAccessFile.getChannel()
+                    .map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            return new CallStatsRecorder(buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG_NAME, "CallStatsRecorder: failed to open " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private CallStatsRecorder(MappedByteBuffer buffer, int capacity) {
+        mBuffer = buffer;
+        mCapacity = capacity;
+        mBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        mBuffer.putInt(0, MAGIC);
+        mBuffer.putShort(4, VERSION);
+        mBuffer.putShort(6, (short) RECORD_SIZE);
+        mBuffer.putInt(8, capacity);
+        mBuffer.putLong(COUNT_OFFSET, 0);
+        mBuffer.putLong(24, System.currentTimeMillis());
+    }
+
+    synchronized void recordStats(@NonNull CallStats stats) {
+        int offset = startRecord(RECORD_STATS, (byte) 0, (byte) 0);
+        if (offset < 0) {
+            return;
+        }
+        mBuffer.putDouble(offset + 16, stats.rtt);
+        mBuffer.putDouble(offset + 24, stats.availableIncomingBitrate);
+        mBuffer.putDouble(offset + 32, stats.availableOutgoingBitrate);
+        // counters are stored as i64 whatever numeric type the SDK declares for them
+        mBuffer.putLong(offset + 40, (long) stats.totalPacketsLost);
+        mBuffer.putLong(offset + 48, (long) stats.totalPacketsSent);
+        mBuffer.putLong(offset + 56, (long) stats.totalBytesSent);
+        mBuffer.putLong(offset + 64, (long) stats.totalPacketsReceived);
+        mBuffer.putLong(offset + 72, (long) stats.totalBytesReceived);
+        finishRecord();
+    }
+
+    synchronized void recordQualityIssue(byte issueType, int level, double... values) {
+        int offset = startRecord(RECORD_QUALITY_ISSUE, issueType, (byte) level);
+        if (offset < 0) {
+            return;
+        }
+        for (int i = 0; i < 8; i++) {
+            mBuffer.putDouble(offset + 16 + i * 8, i < values.length ? values[i] : 0);
+        }
+        finishRecord();
+    }
+
+    /**
+     * Flushes the file. Later records are ignored.
+     */
+    synchronized void close() {
+        if (!mClosed) {
+            mClosed = true;
+            mBuffer.force();
+        }
+    }
+
+    private int startRecord(byte type, byte issueType, byte level) {
+        if (mClosed) {
+            return -1;
+        }
+        int offset = HEADER_SIZE + (int) (mCount % mCapacity) * RECORD_SIZE;
+        mBuffer.put(offset, type);
+        mBuffer.put(offset + 1, issueType);
+        mBuffer.put(offset + 2, level);
+        for (int i = 3; i < 8; i++) {
+            mBuffer.put(offset + i, (byte) 0);
+        }
+        mBuffer.putLong(offset + 8, SystemClock.elapsedRealtime() - mStartTime);
+        return offset;
+    }
+
+    private void finishRecord() {
+        // the count is updated last, so a crash in the middle of a write can only damage the oldest record
+        mCount++;
+        mBuffer.putLong(COUNT_OFFSET, mCount);
+    }
+}
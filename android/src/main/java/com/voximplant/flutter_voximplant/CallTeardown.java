@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ends all calls and releases their renderers and the pooled ones when the plugin is detached
+ * from the engine, without blocking the main thread.
+ *
+ * Renderers are released asynchronously, hangups are requested for all calls at once. A single
+ * background thread shared by all teardowns waits for both up to the deadline and logs the
+ * teardown time and whatever was left unreleased.
+ */
+class CallTeardown {
+    private static final String TAG_NAME = "VOXFLUTTER";
+    static final long DEFAULT_DEADLINE_MS = 3000;
+    private static final ExecutorService sWaitExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vox_teardown");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LoggerModule mLoggerModule = LoggerModule.getInstance();
+
+    /**
+     * Must be called on the main thread.
+     */
+    void start(@NonNull CallManager callManager, @NonNull VideoRendererPool rendererPool, long deadlineMs) {
+        long startTime = SystemClock.elapsedRealtime();
+        List<VoximplantRenderer> renderers = new ArrayList<>(rendererPool.close());
+        for (CallModule callModule : callManager.getCalls()) {
+            renderers.addAll(callModule.detachRenderers());
+        }
+        callManager.endAllCalls();
+
+        Set<Integer> pendingTextureIds = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+        CountDownLatch released = new CountDownLatch(renderers.size());
+        for (VoximplantRenderer renderer : renderers) {
+            int textureId = renderer.getTextureId();
+            pendingTextureIds.add(textureId);
+            renderer.releaseAsync(() -> {
+                pendingTextureIds.remove(textureId);
+                released.countDown();
+            });
+        }
+        long mainThreadTime = SystemClock.elapsedRealtime() - startTime;
+
+        sWaitExecutor.execute(() -> {
+            boolean completed = false;
+            try {
+                long deadline = startTime + deadlineMs;
+                completed = released.await(deadline - SystemClock.elapsedRealtime(), TimeUnit.MILLISECONDS)
+                        && callManager.awaitNoCalls(deadline - SystemClock.elapsedRealtime());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            report(completed, SystemClock.elapsedRealtime() - startTime, mainThreadTime,
+                    renderers.size(), pendingTextureIds, callManager.getCalls());
+        });
+    }
+
+    private void report(boolean completed, long totalTime, long mainThreadTime, int rendererCount,
+                        Set<Integer> pendingTextureIds, List<CallModule> pendingCalls) {
+        StringBuilder message = new StringBuilder("CallTeardown: ")
+                .append(completed ? "completed" : "deadline expired")
+                .append(" in ").append(totalTime).append(" ms (main thread ")
+                .append(mainThreadTime).append(" ms), renderers: ").append(rendererCount);
+        if (!pendingTextureIds.isEmpty()) {
+            message.append(", unreleased renderers: ").append(pendingTextureIds);
+        }
+        if (!pendingCalls.isEmpty()) {
+            List<String> callIds = new ArrayList<>();
+            for (CallModule callModule : pendingCalls) {
+                callIds.add(callModule.getCallId());
+            }
+            message.append(", calls not ended: ").append(callIds);
+        }
+        if (completed) {
+            Log.i(TAG_NAME, message.toString());
+        } else {
+            Log.w(TAG_NAME, message.toString());
+        }
+        mLoggerModule.logInfo(message.toString());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Monotonic timestamps of the lifecycle stages of a call, relative to Client.call or the incoming
+ * call notification.
+ *
+ * The first time a setup stage is reached, its offset from the start of the call (and from the
+ * answer, for incoming calls) is recorded into {@link CallSetupMetrics}, as well as the duration
+ * of each reconnection. Stages may be marked from any thread.
+ */
+class CallTimeline {
+    static final String OUTGOING = "outgoing";
+    static final String INCOMING = "incoming";
+    static final String ANSWERED = "answered";
+    static final String RINGING = "ringing";
+    static final String AUDIO_STARTED = "audioStarted";
+    static final String ICE_COMPLETED = "iceCompleted";
+    static final String CONNECTED = "connected";
+    static final String FIRST_REMOTE_FRAME = "firstRemoteFrame";
+    static final String LISTENING = "listening";
+    static final String RECONNECTING = "reconnecting";
+    static final String RECONNECTED = "reconnected";
+    static final String DISCONNECTED = "disconnected";
+    static final String FAILED = "failed";
+
+    static final String RECONNECT = "reconnect";
+
+    private static final int MAX_STAGES = 32;
+
+    private final CallSetupMetrics mMetrics;
+    private final String mDirection;
+    private final long mStartNanos;
+    private final List<String> mStages = new ArrayList<>();
+    private final List<Long> mStageNanos = new ArrayList<>();
+    private final Set<String> mReachedStages = new HashSet<>();
+    private long mAnsweredNanos = -1;
+    private long mReconnectingNanos = -1;
+
+    CallTimeline(@NonNull CallSetupMetrics metrics, @NonNull String direction, long startNanos) {
+        mMetrics = metrics;
+        mDirection = direction;
+        mStartNanos = startNanos;
+    }
+
+    synchronized void mark(@NonNull String stage) {
+        long now = System.nanoTime();
+        if (mStages.size() < MAX_STAGES) {
+            mStages.add(stage);
+            mStageNanos.add(now);
+        }
+        if (stage.equals(RECONNECTING)) {
+            mReconnectingNanos = now;
+            return;
+        }
+        if (stage.equals(RECONNECTED)) {
+            if (mReconnectingNanos >= 0) {
+                mMetrics.record(RECONNECT, now - mReconnectingNanos);
+                mReconnectingNanos = -1;
+            }
+            return;
+        }
+        if (!mReachedStages.add(stage)) {
+            return;
+        }
+        mMetrics.record(mDirection + "." + stage, now - mStartNanos);
+        if (stage.equals(ANSWERED)) {
+            mAnsweredNanos = now;
+        } else if (mAnsweredNanos >= 0) {
+            mMetrics.record(ANSWERED + "." + stage, now - mAnsweredNanos);
+        }
+    }
+
+    /**
+     * Returns the stages in the order they were reached, each with its time in microseconds since
+     * the start of the call.
+     */
+    synchronized List<Map<String, Object>> toList() {
+        List<Map<String, Object>> timeline = new ArrayList<>(mStages.size() + 1);
+        timeline.add(entry(mDirection, 0));
+        for (int i = 0; i < mStages.size(); i++) {
+            timeline.add(entry(mStages.get(i), (mStageNanos.get(i) - mStartNanos) / 1000));
+        }
+        return timeline;
+    }
+
+    private static Map<String, Object> entry(String stage, long timeMicros) {
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("stage", stage);
+        entry.put("time", timeMicros);
+        return entry;
+    }
+}
@@ -15,6 +15,7 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
 class CameraModule {
+    static final String TYPE = "Camera";
     private Handler mHandler = new Handler(Looper.getMainLooper());
     private ICameraManager mCameraManager;
 
@@ -26,18 +27,9 @@ class CameraModule {
         mCameraManager = Voximplant.getCameraManager(context);
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "selectCamera":
-                selectCamera(call, result);
-                break;
-            case "setCameraResolution":
-                setCameraResolution(call, result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "selectCamera", this::selectCamera);
+        router.register(TYPE, "setCameraResolution", this::setCameraResolution);
     }
 
     private void selectCamera(MethodCall call, MethodChannel.Result result) {
@@ -36,13 +36,13 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
-import io.flutter.view.TextureRegistry;
 
 import static com.voximplant.flutter_voximplant.VoximplantErrors.ERROR_CONNECTION_FAILED;
 import static com.voximplant.flutter_voximplant.VoximplantErrors.ERROR_INTERNAL;
 import static com.voximplant.flutter_voximplant.VoximplantErrors.ERROR_INVALID_ARGUMENTS;
 
 class ClientModule implements IClientSessionListener, IClientLoginListener, IClientIncomingCallListener, EventChannel.StreamHandler {
+    static final String TYPE = "Client";
     final String TAG_NAME = "VOXFLUTTER";
     private IClient mClient;
     private CallManager mCallManager;
@@ -50,21 +50,24 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
     private Handler mHandler = new Handler(Looper.getMainLooper());
 
     private EventChannel mIncomingCallEventChannel;
-    private EventChannel.EventSink mIncomingCallEventSink;
+    // Kept until Dart listens, so an incoming call survives a cold start from a push notification.
+    private final ReplayEventSink mIncomingCallEventSink = new ReplayEventSink(16, 30000);
     private EventChannel mConnectionEventChannel;
-    private EventChannel.EventSink mConnectionEventSink;
+    private final ReplayEventSink mConnectionEventSink = new ReplayEventSink(16, 30000);
 
     private HashMap<String, MethodChannel.Result> mClientMethodCallResults = new HashMap<>();
 
     private final Context mContext;
     private final BinaryMessenger mMessenger;
-    private final TextureRegistry mTextures;
+    private final VideoRendererPool mRendererPool;
+    private final CallChannelPool mCallChannelPool;
 
-    ClientModule(BinaryMessenger messenger, Context context, TextureRegistry textures, CallManager callManager) {
+    ClientModule(BinaryMessenger messenger, Context context, VideoRendererPool rendererPool, CallManager callManager) {
         mCallManager = callManager;
         mMessenger = messenger;
         mContext = context;
-        mTextures = textures;
+        mRendererPool = rendererPool;
+        mCallChannelPool = new CallChannelPool(messenger);
 
         mIncomingCallEventChannel = new EventChannel(messenger, "plugins.voximplant.com/incoming_calls");
         mIncomingCallEventChannel.setStreamHandler(this);
@@ -72,80 +75,30 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
         mConnectionEventChannel.setStreamHandler(this);
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "initClient":
-                initClient(call);
-                break;
-            case "connect":
-                connect(call, result);
-                break;
-            case "disconnect":
-                disconnect(result);
-                break;
-            case "login":
-                login(call, result);
-                break;
-            case "loginWithToken":
-                loginWithToken(call, result);
-                break;
-            case "getClientState":
-                if (mClient != null) {
-                    switch (mClient.getClientState()) {
-                        case DISCONNECTED:
-                            result.success("Disconnected");
-                            break;
-                        case CONNECTING:
-                            result.success("Connecting");
-                            break;
-                        case CONNECTED:
-                            result.success("Connected");
-                            break;
-                        case LOGGING_IN:
-                            result.success("LoggingIn");
-                            break;
-                        case LOGGED_IN:
-                            result.success("LoggedIn");
-                            break;
-                        case RECONNECTING:
-                            result.success("Reconnecting");
-                            break;
-                        default:
-                            result.error(ERROR_INTERNAL, "Unknown state", null);
-                    }
-                } else {
-                    result.error(ERROR_INTERNAL, "Client does not exist", null);
-                }
-                break;
-            case "requestOneTimeKey":
-                requestOneTimeKey(call, result);
-                break;
-            case "tokenRefresh":
-                refreshToken(call, result);
-                break;
-            case "loginWithKey":
-                loginWithKey(call, result);
-                break;
-            case "call":
-                call(call, result);
-                break;
-            case "registerForPushNotifications":
-                registerForPushNotifications(call, result);
-                break;
-            case "unregisterFromPushNotifications":
-                unregisterFromPushNotifications(call, result);
-                break;
-            case "handlePushNotification":
-                handlePushNotification(call, result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
+    /**
+     * Unregisters the pre-registered call channels when the plugin is detached from the engine.
+     */
+    void close() {
+        mCallChannelPool.close();
     }
 
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "initClient", this::initClient);
+        router.register(TYPE, "connect", this::connect);
+        router.register(TYPE, "disconnect", (call, result) -> disconnect(result));
+        router.register(TYPE, "login", this::login);
+        router.register(TYPE, "loginWithToken", this::loginWithToken);
+        router.register(TYPE, "getClientState", (call, result) -> getClientState(result));
+        router.register(TYPE, "requestOneTimeKey", this::requestOneTimeKey);
+        router.register(TYPE, "tokenRefresh", this::refreshToken);
+        router.register(TYPE, "loginWithKey", this::loginWithKey);
+        router.register(TYPE, "call", this::call);
+        router.register(TYPE, "registerForPushNotifications", this::registerForPushNotifications);
+        router.register(TYPE, "unregisterFromPushNotifications", this::unregisterFromPushNotifications);
+        router.register(TYPE, "handlePushNotification", this::handlePushNotification);
+    }
 
-    private void initClient(MethodCall call) {
+    private void initClient(MethodCall call, MethodChannel.Result result) {
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.eglBase = SharedContext.getSharedEglBase();
         if (call.hasArgument("bundleId")) {
@@ -177,11 +130,42 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
             mClient = Voximplant.getClientInstance(Executors.newSingleThreadExecutor(), mContext, clientConfig);
         } catch (ClientException e) {
             Log.e(TAG_NAME, "VoximplantPlugin: initClient: exception on client init: " + e.getMessage());
+            result.error(ERROR_INTERNAL, "Client.initClient: " + e.getMessage(), null);
             return;
         }
         mClient.setClientSessionListener(this);
         mClient.setClientLoginListener(this);
         mClient.setClientIncomingCallListener(this);
+        result.success(null);
+    }
+
+    private void getClientState(MethodChannel.Result result) {
+        if (mClient != null) {
+            switch (mClient.getClientState()) {
+                case DISCONNECTED:
+                    result.success("Disconnected");
+                    break;
+                case CONNECTING:
+                    result.success("Connecting");
+                    break;
+                case CONNECTED:
+                    result.success("Connected");
+                    break;
+                case LOGGING_IN:
+                    result.success("LoggingIn");
+                    break;
+                case LOGGED_IN:
+                    result.success("LoggedIn");
+                    break;
+                case RECONNECTING:
+                    result.success("Reconnecting");
+                    break;
+                default:
+                    result.error(ERROR_INTERNAL, "Unknown state", null);
+            }
+        } else {
+            result.error(ERROR_INTERNAL, "Client does not exist", null);
+        }
     }
 
     private void connect(MethodCall call, MethodChannel.Result result) {
@@ -220,7 +204,7 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
             return;
         }
 
-        mClientMethodCallResults.put(call.method, result);
+        mClientMethodCallResults.put("connect", result);
     }
 
     private void disconnect(MethodChannel.Result result) {
@@ -295,6 +279,7 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
     }
 
     private void call(MethodCall call, MethodChannel.Result result) {
+        long startNanos = System.nanoTime();
         if (mClient == null) {
             result.error(ERROR_INTERNAL, "Client is not initialized", null);
             return;
@@ -340,7 +325,10 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
                     return;
                 }
 
-                CallModule callModule = new CallModule(mMessenger, mTextures, mCallManager, voxCall);
+                CallTimeline timeline = CallSetupMetrics.getInstance()
+                        .startTimeline(voxCall.getCallId(), CallTimeline.OUTGOING, startNanos);
+                CallChannels channels = new CallChannels(mMessenger, voxCall.getCallId());
+                CallModule callModule = new CallModule(mRendererPool, mCallManager, voxCall, channels, timeline);
                 mCallManager.addNewCall(voxCall.getCallId(), callModule);
 
                 Map<String, Object> returnParams = new HashMap<>();
@@ -430,11 +418,9 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
             Log.e(TAG_NAME, "VoximplantPlugin: onConnectionClosed: result is null");
             mHandler.post(() -> result.success(null));
         }
-        if (mConnectionEventSink != null) {
-            Map<String, String> params = new HashMap<>();
-            params.put("event", "connectionClosed");
-            mHandler.post(() -> mConnectionEventSink.success(params));
-        }
+        Map<String, String> params = new HashMap<>();
+        params.put("event", "connectionClosed");
+        mConnectionEventSink.send(params);
     }
 
     @Override
@@ -523,42 +509,40 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
 
     @Override
     public void onIncomingCall(ICall call, boolean video, Map<String, String> headers) {
-        if (mIncomingCallEventSink != null) {
-            CallModule callModule = new CallModule(mMessenger, mTextures, mCallManager, call);
-            mCallManager.addNewCall(call.getCallId(), callModule);
-            Map<String, Object> params = new HashMap<>();
-            params.put("event", "incomingCall");
-            params.put("callId", call.getCallId());
-            params.put("video", video);
-            params.put("headers", headers);
-            IEndpoint endpoint = call.getEndpoints().get(0);
-            if (endpoint != null) {
-                params.put("endpointId", endpoint.getEndpointId());
-                params.put("endpointUserName", endpoint.getUserName());
-                params.put("endpointDisplayName", endpoint.getUserDisplayName());
-                params.put("endpointSipUri", endpoint.getSipUri());
-                params.put("endpointPlace", endpoint.getPlace());
-            }
-            mHandler.post(() -> mIncomingCallEventSink.success(params));
-        }
+        CallTimeline timeline = CallSetupMetrics.getInstance()
+                .startTimeline(call.getCallId(), CallTimeline.INCOMING, System.nanoTime());
+        CallModule callModule = new CallModule(mRendererPool, mCallManager, call, mCallChannelPool.acquire(),
+                timeline);
+        mCallManager.addNewCall(call.getCallId(), callModule);
+        Map<String, Object> params = new HashMap<>();
+        params.put("event", "incomingCall");
+        params.put("callId", call.getCallId());
+        params.put("channelId", callModule.getChannelId());
+        params.put("video", video);
+        params.put("headers", headers);
+        IEndpoint endpoint = call.getEndpoints().get(0);
+        if (endpoint != null) {
+            params.put("endpointId", endpoint.getEndpointId());
+            params.put("endpointUserName", endpoint.getUserName());
+            params.put("endpointDisplayName", endpoint.getUserDisplayName());
+            params.put("endpointSipUri", endpoint.getSipUri());
+            params.put("endpointPlace", endpoint.getPlace());
+        }
+        mIncomingCallEventSink.send(params);
     }
 
     @Override
     public void onReconnecting() {
-        if (mConnectionEventSink != null) {
-            Map<String, String> params = new HashMap<>();
-            params.put("event", "reconnecting");
-            mHandler.post(() -> mConnectionEventSink.success(params));
-        }
+        Map<String, String> params = new HashMap<>();
+        params.put("event", "reconnecting");
+        mConnectionEventSink.send(params);
     }
 
     @Override
     public void onReconnected() {
-        if (mConnectionEventSink != null) {
-            Map<String, String> params = new HashMap<>();
-            params.put("event", "reconnected");
-            mHandler.post(() -> mConnectionEventSink.success(params));
-        }
+        Map<String, String> params = new HashMap<>();
+        params.put("event", "reconnected");
+        mConnectionEventSink.send(params);
     }
 
     //endregion
@@ -568,10 +552,10 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
         if (arguments instanceof String) {
             String type = (String) arguments;
             if (type.equals("connection_events")) {
-                mConnectionEventSink = eventSink;
+                mConnectionEventSink.setSink(eventSink);
             }
             if (type.equals("incoming_calls")) {
-                mIncomingCallEventSink = eventSink;
+                mIncomingCallEventSink.setSink(eventSink);
             }
         }
     }
@@ -581,10 +565,10 @@ class ClientModule implements IClientSessionListener, IClientLoginListener, ICli
         if (arguments instanceof String) {
             String type = (String) arguments;
             if (type.equals("connection_events")) {
-                mConnectionEventSink = null;
+                mConnectionEventSink.setSink(null);
             }
             if (type.equals("incoming_calls")) {
-                mIncomingCallEventSink = null;
+                mIncomingCallEventSink.setSink(null);
             }
         }
     }
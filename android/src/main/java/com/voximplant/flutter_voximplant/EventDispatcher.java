@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Delivers events to event channels once per frame instead of posting each event separately.
+ *
+ * Events can be sent from any thread. They are queued and drained on the main thread on the next
+ * frame, or after the max latency if no frame comes earlier (e.g. the app is in background).
+ * All events queued for a sink are sent as a single list; a single event is sent as is.
+ * Max latency 0 disables frame alignment and drains on the next main looper message.
+ *
+ * Pending events per sink are capped at {@link #MAX_PENDING_EVENTS_PER_SINK}. The {@link Policy}
+ * of an event decides whether it may be merged with a pending event of the same key and in which
+ * order events are dropped when the cap is reached: droppable ones first, then latest and toggle
+ * ones. Kept events are never dropped, a sink with only kept events pending goes over the cap.
+ * Latest and toggle events dropped at the cap and kept events queued over it are counted as
+ * overflow.
+ */
+class EventDispatcher {
+    static final String EVENTS_TYPE = "Events";
+    private static final int DEFAULT_MAX_LATENCY_MS = 32;
+    private static final int MAX_PENDING_EVENTS_PER_SINK = 256;
+
+    enum Policy {
+        /** Never dropped, e.g. call state changes. */
+        KEEP,
+        /** Dropped, oldest first, when the sink has too many pending events. */
+        DROPPABLE,
+        /** Replaces a pending event with the same key, e.g. the latest level of a quality issue. */
+        LATEST,
+        /** Cancels out a pending event with the same key, e.g. voice activity started and stopped. */
+        TOGGLE
+    }
+
+    private static class PendingEvent {
+        final Object event;
+        final Policy policy;
+        final String key;
+
+        PendingEvent(Object event, Policy policy, String key) {
+            this.event = event;
+            this.policy = policy;
+            this.key = key;
+        }
+    }
+
+    private static EventDispatcher sInstance;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Object mLock = new Object();
+    private Map<EventChannel.EventSink, List<PendingEvent>> mPending = new LinkedHashMap<>();
+    private long mDroppedCount;
+    private long mMergedCount;
+    private long mOverflowCount;
+    private final AtomicBoolean mDrainScheduled = new AtomicBoolean();
+    private volatile int mMaxLatencyMs = DEFAULT_MAX_LATENCY_MS;
+
+    private final Runnable mDrain = this::drain;
+    private final Choreographer.FrameCallback mFrameCallback = frameTimeNanos -> drain();
+    private final Runnable mScheduleFrame = () -> Choreographer.getInstance().postFrameCallback(mFrameCallback);
+
+    static synchronized EventDispatcher getInstance() {
+        if (sInstance == null) {
+            sInstance = new EventDispatcher();
+        }
+        return sInstance;
+    }
+
+    private EventDispatcher() {}
+
+    void registerMethods(MethodRouter router) {
+        router.register(EVENTS_TYPE, "setMaxLatency", this::setMaxLatency);
+        router.register(EVENTS_TYPE, "getCounters", (call, result) -> getCounters(result));
+    }
+
+    private void setMaxLatency(MethodCall call, MethodChannel.Result result) {
+        Integer maxLatency = call.argument("maxLatency");
+        if (maxLatency == null || maxLatency < 0) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Events.setMaxLatency: Invalid arguments", null));
+            return;
+        }
+        mMaxLatencyMs = maxLatency;
+        mHandler.post(() -> result.success(null));
+    }
+
+    private void getCounters(MethodChannel.Result result) {
+        Map<String, Object> counters = new HashMap<>();
+        synchronized (mLock) {
+            counters.put("dropped", mDroppedCount);
+            counters.put("merged", mMergedCount);
+            counters.put("overflow", mOverflowCount);
+        }
+        mHandler.post(() -> result.success(counters));
+    }
+
+    /**
+     * Queues an event that is never dropped. Does nothing if the sink is null, i.e. nobody listens.
+     */
+    void send(@Nullable EventChannel.EventSink sink, @NonNull Object event) {
+        send(sink, event, Policy.KEEP, null);
+    }
+
+    /**
+     * Queues the event with the given policy. {@link Policy#LATEST} and {@link Policy#TOGGLE}
+     * events require a key, pending events are only merged with events of the same policy and key.
+     */
+    void send(@Nullable EventChannel.EventSink sink, @NonNull Object event, @NonNull Policy policy, @Nullable String key) {
+        if (sink == null) {
+            return;
+        }
+        synchronized (mLock) {
+            List<PendingEvent> events = mPending.get(sink);
+            if (events == null) {
+                events = new ArrayList<>();
+                mPending.put(sink, events);
+            }
+            if (key != null && (policy == Policy.LATEST || policy == Policy.TOGGLE)) {
+                for (int i = events.size() - 1; i >= 0; i--) {
+                    PendingEvent pending = events.get(i);
+                    if (pending.policy == policy && key.equals(pending.key)) {
+                        events.remove(i);
+                        mMergedCount++;
+                        if (policy == Policy.TOGGLE) {
+                            return;
+                        }
+                        break;
+                    }
+                }
+            }
+            if (events.size() >= MAX_PENDING_EVENTS_PER_SINK && !dropOldest(events, policy)) {
+                return;
+            }
+            events.add(new PendingEvent(event, policy, key));
+        }
+        if (mDrainScheduled.compareAndSet(false, true)) {
+            int maxLatency = mMaxLatencyMs;
+            if (maxLatency == 0) {
+                mHandler.post(mDrain);
+            } else {
+                mHandler.postDelayed(mDrain, maxLatency);
+                mHandler.post(mScheduleFrame);
+            }
+        }
+    }
+
+    /**
+     * Drops the oldest pending event that gives way to a new event with the given policy, if any.
+     *
+     * @return false if the new event is dropped instead
+     */
+    private boolean dropOldest(List<PendingEvent> events, Policy policy) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).policy == Policy.DROPPABLE) {
+                events.remove(i);
+                mDroppedCount++;
+                return true;
+            }
+        }
+        if (policy == Policy.DROPPABLE) {
+            mDroppedCount++;
+            return false;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).policy != Policy.KEEP) {
+                events.remove(i);
+                mOverflowCount++;
+                return true;
+            }
+        }
+        mOverflowCount++;
+        // only kept events are pending, a kept event is queued over the cap
+        return policy == Policy.KEEP;
+    }
+
+    private void drain() {
+        mHandler.removeCallbacks(mDrain);
+        mHandler.removeCallbacks(mScheduleFrame);
+        Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+        mDrainScheduled.set(false);
+
+        Map<EventChannel.EventSink, List<PendingEvent>> pending;
+        synchronized (mLock) {
+            if (mPending.isEmpty()) {
+                return;
+            }
+            pending = mPending;
+            mPending = new LinkedHashMap<>();
+        }
+        for (Map.Entry<EventChannel.EventSink, List<PendingEvent>> entry : pending.entrySet()) {
+            List<PendingEvent> events = entry.getValue();
+            if (events.isEmpty()) {
+                continue;
+            }
+            if (events.size() == 1) {
+                entry.getKey().success(events.get(0).event);
+                continue;
+            }
+            List<Object> batch = new ArrayList<>(events.size());
+            for (PendingEvent event : events) {
+                batch.add(event.event);
+            }
+            entry.getKey().success(batch);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.logging.SimpleFormatter;
 class FileLogger {
     private final static String TAG_NAME = "VOXFLUTTER";
 
-    private FileHandler fileHandler;
+    private volatile FileHandler fileHandler;
 
     FileLogger(String path, String fileName, int fileSizeLimit) throws IOException, SecurityException, IllegalArgumentException {
         fileHandler = new FileHandler(path + "/" + fileName, fileSizeLimit, 1, true);
@@ -41,19 +41,21 @@ class FileLogger {
                 break;
         }
 
-        if (fileHandler != null) {
-            fileHandler.publish(new LogRecord(level, msg));
+        FileHandler handler = fileHandler;
+        if (handler != null) {
+            handler.publish(new LogRecord(level, msg));
         }
     }
 
     void close() {
-        if (fileHandler != null) {
+        FileHandler handler = fileHandler;
+        fileHandler = null;
+        if (handler != null) {
             try {
-                fileHandler.close();
+                handler.close();
             } catch (SecurityException e) {
                 Log.e(TAG_NAME, "FileLogger:: failed to close a file. " + e.getMessage());
             }
         }
-        fileHandler = null;
     }
 }
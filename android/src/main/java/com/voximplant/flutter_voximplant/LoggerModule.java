@@ -23,13 +23,14 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
 class LoggerModule implements ILogListener {
+    static final String TYPE = "Logger";
     private final static String TAG_NAME = "VOXFLUTTER";
 
     @Nullable
     private static LoggerModule instance = null;
 
     @Nullable
-    private FileLogger fileLogger = null;
+    private volatile FileLogger fileLogger = null;
 
     private LoggerModule() {}
 
@@ -40,46 +41,46 @@ class LoggerModule implements ILogListener {
         return instance;
     }
 
-    void handleMethodCall(@NonNull MethodCall call, MethodChannel.Result result) {
-        if (call.method.equals("configureFileLogger")) {
-            String path = null;
-            if (call.hasArgument("path")) {
-                String value = call.argument("path");
-                if (value != null) {
-                    path = value;
-                }
-            }
-            String fileName = null;
-            if (call.hasArgument("fileName")) {
-                String value = call.argument("fileName");
-                if (value != null) {
-                    fileName = value;
-                }
-            }
-            int fileSizeLimit = 0;
-            if (call.hasArgument("fileSizeLimit")) {
-                Integer value = call.argument("fileSizeLimit");
-                if (value != null) {
-                    fileSizeLimit = value;
-                }
-            }
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "configureFileLogger", this::configureFileLogger);
+    }
 
-            if (path == null || fileName == null || path.isEmpty() || fileName.isEmpty()) {
-                result.error(ERROR_INVALID_ARGUMENTS, "Invalid arguments", null);
-                return;
+    private void configureFileLogger(@NonNull MethodCall call, MethodChannel.Result result) {
+        String path = null;
+        if (call.hasArgument("path")) {
+            String value = call.argument("path");
+            if (value != null) {
+                path = value;
             }
-            if (fileSizeLimit <= 0) {
-                result.error(ERROR_INVALID_ARGUMENTS, "File size limit must be greater than 0", null);
-                return;
+        }
+        String fileName = null;
+        if (call.hasArgument("fileName")) {
+            String value = call.argument("fileName");
+            if (value != null) {
+                fileName = value;
+            }
+        }
+        int fileSizeLimit = 0;
+        if (call.hasArgument("fileSizeLimit")) {
+            Integer value = call.argument("fileSizeLimit");
+            if (value != null) {
+                fileSizeLimit = value;
             }
+        }
 
-            configure(path, fileName, fileSizeLimit, result);
-        } else {
-            result.notImplemented();
+        if (path == null || fileName == null || path.isEmpty() || fileName.isEmpty()) {
+            result.error(ERROR_INVALID_ARGUMENTS, "Invalid arguments", null);
+            return;
+        }
+        if (fileSizeLimit <= 0) {
+            result.error(ERROR_INVALID_ARGUMENTS, "File size limit must be greater than 0", null);
+            return;
         }
+
+        configure(path, fileName, fileSizeLimit, result);
     }
 
-    private void configure(@NonNull String path, @NonNull String fileName, int fileSizeLimit, MethodChannel.Result result) {
+    private synchronized void configure(@NonNull String path, @NonNull String fileName, int fileSizeLimit, MethodChannel.Result result) {
         if (fileLogger != null) {
             fileLogger.close();
             fileLogger = null;
@@ -101,15 +102,24 @@ class LoggerModule implements ILogListener {
     }
 
     void logInfo(@NonNull String message) {
-        if (fileLogger != null) {
-            fileLogger.writeLog(LogLevel.INFO, message);
+        FileLogger logger = fileLogger;
+        if (logger != null) {
+            logger.writeLog(LogLevel.INFO, message);
         }
     }
 
+    /**
+     * Returns whether messages are written to a log file, so callers can skip building them.
+     */
+    boolean isLogging() {
+        return fileLogger != null;
+    }
+
     @Override
     public void onLogMessage(LogLevel logLevel, String s) {
-        if (fileLogger != null) {
-            fileLogger.writeLog(logLevel, s);
+        FileLogger logger = fileLogger;
+        if (logger != null) {
+            logger.writeLog(logLevel, s);
         }
     }
 }
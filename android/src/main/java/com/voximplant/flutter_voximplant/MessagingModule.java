@@ -41,10 +41,12 @@ import static com.voximplant.sdk.messaging.MessengerNotification.ON_EDIT_MESSAGE
 import static com.voximplant.sdk.messaging.MessengerNotification.ON_SEND_MESSAGE;
 
 class MessagingModule implements EventChannel.StreamHandler, IMessengerListener {
+    static final String TYPE = "Messaging";
     private EventChannel mEventChannel;
-    private EventChannel.EventSink mEventSink;
-    private IMessenger mMessenger;
-    private Handler mHandler = new Handler(Looper.getMainLooper());
+    private volatile EventChannel.EventSink mEventSink;
+    private final IMessenger mMessenger;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final EventDispatcher mEventDispatcher = EventDispatcher.getInstance();
 
     MessagingModule(BinaryMessenger messenger) {
         mEventChannel = new EventChannel(messenger, "plugins.voximplant.com/messaging");
@@ -53,99 +55,36 @@ class MessagingModule implements EventChannel.StreamHandler, IMessengerListener
         mMessenger.addMessengerListener(this);
     }
 
-    void handleMethodCall(MethodCall call, MethodChannel.Result result) {
-        switch (call.method) {
-            case "getUserByName":
-                getUserByName(call, result);
-                break;
-            case "getUserByIMId":
-                getUserById(call, result);
-                break;
-            case "getUsersByName":
-                getUsersByName(call, result);
-                break;
-            case "getUsersByIMId":
-                getUsersByIMId(call, result);
-                break;
-            case "editUser":
-                editUser(call, result);
-                break;
-            case "managePushNotifications":
-                managePushNotifications(call, result);
-                break;
-            case "setStatus":
-                setStatus(call, result);
-                break;
-            case "subscribe":
-                subscribe(call, result);
-                break;
-            case "unsubscribe":
-                unsubscribe(call, result);
-                break;
-            case "unsubscribeFromAll":
-                unsubscribeFromAll(result);
-                break;
-            case "getSubscriptions":
-                getSubscriptionList(result);
-                break;
-            case "createConversation":
-                createConversation(call, result);
-                break;
-            case "getConversation":
-                getConversation(call, result);
-                break;
-            case "getConversations":
-                getConversations(call, result);
-                break;
-            case "getPublicConversations":
-                getPublicConversations(result);
-                break;
-            case "joinConversation":
-                joinConversation(call, result);
-                break;
-            case "leaveConversation":
-                leaveConversation(call, result);
-                break;
-            case "addParticipants":
-                addParticipants(call, result);
-                break;
-            case "editParticipants":
-                editParticipants(call, result);
-                break;
-            case "removeParticipants":
-                removeParticipants(call, result);
-                break;
-            case "updateConversation":
-                updateConversation(call, result);
-                break;
-            case "markAsRead":
-                markAsRead(call, result);
-                break;
-            case "typing":
-                typing(call, result);
-                break;
-            case "sendMessage":
-                sendMessage(call, result);
-                break;
-            case "retransmitEvents":
-                retransmitEvents(call, result);
-                break;
-            case "retransmitEventsFrom":
-                retransmitEventsFrom(call, result);
-                break;
-            case "retransmitEventsTo":
-                retransmitEventsTo(call, result);
-                break;
-            case "updateMessage":
-                updateMessage(call, result);
-                break;
-            case "removeMessage":
-                removeMessage(call, result);
-                break;
-            default:
-                result.notImplemented();
-                break;
-        }
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "getUserByName", this::getUserByName);
+        router.register(TYPE, "getUserByIMId", this::getUserById);
+        router.register(TYPE, "getUsersByName", this::getUsersByName);
+        router.register(TYPE, "getUsersByIMId", this::getUsersByIMId);
+        router.register(TYPE, "editUser", this::editUser);
+        router.register(TYPE, "managePushNotifications", this::managePushNotifications);
+        router.register(TYPE, "setStatus", this::setStatus);
+        router.register(TYPE, "subscribe", this::subscribe);
+        router.register(TYPE, "unsubscribe", this::unsubscribe);
+        router.register(TYPE, "unsubscribeFromAll", (call, result) -> unsubscribeFromAll(result));
+        router.register(TYPE, "getSubscriptions", (call, result) -> getSubscriptionList(result));
+        router.register(TYPE, "createConversation", this::createConversation);
+        router.register(TYPE, "getConversation", this::getConversation);
+        router.register(TYPE, "getConversations", this::getConversations);
+        router.register(TYPE, "getPublicConversations", (call, result) -> getPublicConversations(result));
+        router.register(TYPE, "joinConversation", this::joinConversation);
+        router.register(TYPE, "leaveConversation", this::leaveConversation);
+        router.register(TYPE, "addParticipants", this::addParticipants);
+        router.register(TYPE, "editParticipants", this::editParticipants);
+        router.register(TYPE, "removeParticipants", this::removeParticipants);
+        router.register(TYPE, "updateConversation", this::updateConversation);
+        router.register(TYPE, "markAsRead", this::markAsRead);
+        router.register(TYPE, "typing", this::typing);
+        router.register(TYPE, "sendMessage", this::sendMessage);
+        router.register(TYPE, "retransmitEvents", this::retransmitEvents);
+        router.register(TYPE, "retransmitEventsFrom", this::retransmitEventsFrom);
+        router.register(TYPE, "retransmitEventsTo", this::retransmitEventsTo);
+        router.register(TYPE, "updateMessage", this::updateMessage);
+        router.register(TYPE, "removeMessage", this::removeMessage);
     }
 
     private void getUserByName(MethodCall call, MethodChannel.Result result) {
@@ -940,9 +879,7 @@ class MessagingModule implements EventChannel.StreamHandler, IMessengerListener
     }
 
     private void sendEvent(Map<String, Object> event) {
-        if (mEventSink != null) {
-            mHandler.post(() -> mEventSink.success(event));
-        }
+        mEventDispatcher.send(mEventSink, event);
     }
 
     private Map<String, Object> makeMapFromRetransmitEvent(IRetransmitEvent iRetransmitEvent) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Routes "Type.method" platform calls to module handlers.
+ *
+ * Handlers are registered once when the plugin is configured, so dispatching a call is a single
+ * map lookup by the full method name. Every dispatched call is timed by {@link MetricsModule}.
+ */
+class MethodRouter {
+    interface MethodHandler {
+        void handle(@NonNull MethodCall call, @NonNull MethodChannel.Result result);
+    }
+
+    /**
+     * Finds the module instance a call is addressed to (e.g. a call by callId).
+     * Reports an error to the result and returns null if there is no such instance.
+     */
+    interface TargetResolver<T> {
+        @Nullable
+        T resolve(@NonNull MethodCall call, @NonNull MethodChannel.Result result, @NonNull String methodName);
+    }
+
+    interface TargetMethodHandler<T> {
+        void handle(@NonNull T target, @NonNull MethodCall call, @NonNull MethodChannel.Result result);
+    }
+
+    private final Map<String, MethodHandler> mHandlers = new HashMap<>();
+    private final MetricsModule mMetrics;
+
+    MethodRouter(@NonNull MetricsModule metrics) {
+        mMetrics = metrics;
+    }
+
+    void register(@NonNull String type, @NonNull String method, @NonNull MethodHandler handler) {
+        mHandlers.put(type + "." + method, handler);
+    }
+
+    <T> void register(@NonNull String type, @NonNull String method,
+                      @NonNull TargetResolver<T> resolver, @NonNull TargetMethodHandler<T> handler) {
+        final String methodName = type + "." + method;
+        mHandlers.put(methodName, (call, result) -> {
+            T target = resolver.resolve(call, result, methodName);
+            if (target != null) {
+                handler.handle(target, call, result);
+            }
+        });
+    }
+
+    boolean dispatch(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
+        MethodHandler handler = mHandlers.get(call.method);
+        if (handler == null) {
+            return false;
+        }
+        mMetrics.dispatch(call, result, handler);
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Collects latency histograms per "Type.method" and serves them via "Metrics.snapshot" and
+ * "Metrics.reset".
+ *
+ * "dispatch" is the time the handler runs on the calling thread, "completion" is the time until
+ * the call is replied to, including waiting for SDK completion handlers.
+ *
+ * Collection is off until enabled via "Metrics.setEnabled", so calls are dispatched without the
+ * timing and the result wrapper by default.
+ */
+class MetricsModule {
+    static final String TYPE = "Metrics";
+
+    private static class MethodMetrics {
+        final LatencyHistogram dispatch = new LatencyHistogram();
+        final LatencyHistogram completion = new LatencyHistogram();
+    }
+
+    private final ConcurrentHashMap<String, MethodMetrics> mMethodMetrics = new ConcurrentHashMap<>();
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private volatile boolean mEnabled;
+
+    void registerMethods(MethodRouter router) {
+        router.register(TYPE, "setEnabled", this::setEnabled);
+        router.register(TYPE, "snapshot", (call, result) -> snapshot(result));
+        router.register(TYPE, "reset", (call, result) -> reset(result));
+    }
+
+    void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    /**
+     * Runs the handler. If collection is enabled, records its dispatch time and passes the handler
+     * a result that records the completion latency.
+     */
+    void dispatch(@NonNull MethodCall call, @NonNull MethodChannel.Result result, @NonNull MethodRouter.MethodHandler handler) {
+        if (!mEnabled) {
+            handler.handle(call, result);
+            return;
+        }
+        MethodMetrics metrics = getMethodMetrics(call.method);
+        long start = System.nanoTime();
+        handler.handle(call, new MethodChannel.Result() {
+            @Override
+            public void success(@Nullable Object value) {
+                metrics.completion.record(System.nanoTime() - start);
+                result.success(value);
+            }
+
+            @Override
+            public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+                metrics.completion.record(System.nanoTime() - start);
+                result.error(errorCode, errorMessage, errorDetails);
+            }
+
+            @Override
+            public void notImplemented() {
+                metrics.completion.record(System.nanoTime() - start);
+                result.notImplemented();
+            }
+        });
+        metrics.dispatch.record(System.nanoTime() - start);
+    }
+
+    private MethodMetrics getMethodMetrics(String method) {
+        MethodMetrics metrics = mMethodMetrics.get(method);
+        if (metrics == null) {
+            MethodMetrics newMetrics = new MethodMetrics();
+            metrics = mMethodMetrics.putIfAbsent(method, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+        return metrics;
+    }
+
+    private void setEnabled(MethodCall call, MethodChannel.Result result) {
+        Boolean enabled = call.argument("enabled");
+        if (enabled == null) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Metrics.setEnabled: Invalid enabled", null));
+            return;
+        }
+        setEnabled(enabled);
+        mHandler.post(() -> result.success(null));
+    }
+
+    private void snapshot(MethodChannel.Result result) {
+        Map<String, Object> snapshot = new HashMap<>();
+        for (Map.Entry<String, MethodMetrics> entry : mMethodMetrics.entrySet()) {
+            Map<String, Object> methodSnapshot = new HashMap<>();
+            methodSnapshot.put("dispatch", entry.getValue().dispatch.snapshot());
+            methodSnapshot.put("completion", entry.getValue().completion.snapshot());
+            snapshot.put(entry.getKey(), methodSnapshot);
+        }
+        mHandler.post(() -> result.success(snapshot));
+    }
+
+    private void reset(MethodChannel.Result result) {
+        for (MethodMetrics metrics : mMethodMetrics.values()) {
+            metrics.dispatch.reset();
+            metrics.completion.reset();
+        }
+        mHandler.post(() -> result.success(null));
+    }
+}
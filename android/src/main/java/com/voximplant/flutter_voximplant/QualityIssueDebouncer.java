@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Holds back quality issue events of a call whose level oscillates, configured per issue type
+ * from Dart via "Events.setQualityIssueDebounce".
+ *
+ * A new level is reported once it has held for the min dwell time; a lower (better) level must
+ * additionally hold for the recover delay, so an issue is raised sooner than it is cleared.
+ * A level that reverts to the reported one before that is not reported at all. Max rate limits
+ * the events of an issue per second, updates in between are merged into the latest one.
+ *
+ * Levels are also filtered with hysteresis: an issue is raised once its level reaches the raise
+ * level and is kept until its level drops below the clear level. Levels in between are not
+ * reported, the issue keeps its reported level. NONE always clears an issue.
+ *
+ * Every issue type passes all events by default: the SDK already detects issues over its own
+ * measurement windows (e.g. 2.5 seconds for packet loss), so the plugin reports them as the SDK
+ * does, as on iOS, unless an app asks for more smoothing. Hence the min dwell, the recover delay
+ * and the max rate are 0 and both level thresholds are MINOR.
+ *
+ * Held back and merged events are counted per issue type, see "Events.getQualityIssueCounters".
+ */
+class QualityIssueDebouncer {
+    interface Sink {
+        void send(@NonNull Object event, @NonNull String issueKey);
+    }
+
+    private static class Config {
+        final int minDwellMs;
+        final int recoverDelayMs;
+        final int maxRate;
+        final int raiseLevel;
+        final int clearLevel;
+
+        Config(int minDwellMs, int recoverDelayMs, int maxRate, int raiseLevel, int clearLevel) {
+            this.minDwellMs = minDwellMs;
+            this.recoverDelayMs = recoverDelayMs;
+            this.maxRate = maxRate;
+            this.raiseLevel = raiseLevel;
+            this.clearLevel = clearLevel;
+        }
+    }
+
+    private static class IssueState {
+        final String issueKey;
+        final String issueType;
+        final Runnable check;
+        int level;
+        long levelSince;
+        int reportedLevel;
+        long reportedTime = Long.MIN_VALUE / 2;
+        Object pendingEvent;
+
+        IssueState(String issueKey, String issueType, Runnable check) {
+            this.issueKey = issueKey;
+            this.issueType = issueType;
+            this.check = check;
+        }
+    }
+
+    private static final int LEVEL_MINOR = 1;
+    private static final int LEVEL_CRITICAL = 3;
+    private static final Config DEFAULT_CONFIG = new Config(0, 0, 0, LEVEL_MINOR, LEVEL_MINOR);
+
+    // Issue type -> config, types without an entry use the default one
+    private static final ConcurrentHashMap<String, Config> sConfigs = new ConcurrentHashMap<>();
+    private static volatile Config sDefaultConfig = DEFAULT_CONFIG;
+    private static final ConcurrentHashMap<String, AtomicLong> sSuppressed = new ConcurrentHashMap<>();
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Sink mSink;
+    private final Map<String, IssueState> mIssues = new HashMap<>();
+
+    QualityIssueDebouncer(@NonNull Sink sink) {
+        mSink = sink;
+    }
+
+    static void registerMethods(MethodRouter router) {
+        router.register(EventDispatcher.EVENTS_TYPE, "setQualityIssueDebounce", QualityIssueDebouncer::setDebounce);
+        router.register(EventDispatcher.EVENTS_TYPE, "getQualityIssueCounters", (call, result) -> getCounters(result));
+    }
+
+    private static void setDebounce(MethodCall call, MethodChannel.Result result) {
+        Handler handler = new Handler(Looper.getMainLooper());
+        Integer minDwell = call.argument("minDwell");
+        Integer recoverDelay = call.argument("recoverDelay");
+        Integer maxRate = call.argument("maxRate");
+        Integer raiseLevel = call.argument("raiseLevel");
+        Integer clearLevel = call.argument("clearLevel");
+        String issueType = call.argument("issueType");
+        if (minDwell == null || minDwell < 0 || recoverDelay == null || recoverDelay < 0
+                || maxRate == null || maxRate < 0
+                || raiseLevel == null || raiseLevel < LEVEL_MINOR || raiseLevel > LEVEL_CRITICAL
+                || clearLevel == null || clearLevel < LEVEL_MINOR || clearLevel > raiseLevel) {
+            handler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "Events.setQualityIssueDebounce: Invalid arguments", null));
+            return;
+        }
+        Config config = new Config(minDwell, recoverDelay, maxRate, raiseLevel, clearLevel);
+        if (issueType != null) {
+            sConfigs.put(issueType, config);
+        } else {
+            // applies to all issue types
+            sDefaultConfig = config;
+            sConfigs.clear();
+        }
+        handler.post(() -> result.success(null));
+    }
+
+    private static void getCounters(MethodChannel.Result result) {
+        Map<String, Object> counters = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : sSuppressed.entrySet()) {
+            counters.put(entry.getKey(), entry.getValue().get());
+        }
+        new Handler(Looper.getMainLooper()).post(() -> result.success(counters));
+    }
+
+    /**
+     * @param issueType  counters key, e.g. "VIQualityIssueTypePacketLoss"
+     * @param issueKey   identifies the issue, may include a stream id
+     */
+    synchronized void submit(@NonNull Object event, @NonNull String issueType, @NonNull String issueKey, int level) {
+        long now = SystemClock.elapsedRealtime();
+        IssueState state = mIssues.get(issueKey);
+        if (state == null) {
+            state = new IssueState(issueKey, issueType, () -> check(issueKey));
+            mIssues.put(issueKey, state);
+        }
+        Config config = config(issueType);
+        if (level >= config.clearLevel && level < config.raiseLevel) {
+            // between the thresholds: a cleared issue is not raised yet and a raised one is not
+            // cleared yet
+            suppressed(issueType);
+            if (state.pendingEvent != null) {
+                state.pendingEvent = null;
+                mHandler.removeCallbacks(state.check);
+                suppressed(issueType);
+            }
+            state.level = state.reportedLevel;
+            state.levelSince = now;
+            return;
+        }
+        if (state.level != level) {
+            state.level = level;
+            state.levelSince = now;
+        }
+        if (state.pendingEvent != null) {
+            suppressed(issueType);
+            if (level == state.reportedLevel) {
+                // the level went back before the change was reported
+                state.pendingEvent = null;
+                mHandler.removeCallbacks(state.check);
+                suppressed(issueType);
+                return;
+            }
+        }
+        state.pendingEvent = event;
+        check(state, now);
+    }
+
+    /**
+     * Drops held back events. Later events are sent without delay.
+     */
+    synchronized void release() {
+        for (IssueState state : mIssues.values()) {
+            mHandler.removeCallbacks(state.check);
+        }
+        mIssues.clear();
+    }
+
+    private synchronized void check(String issueKey) {
+        IssueState state = mIssues.get(issueKey);
+        if (state != null && state.pendingEvent != null) {
+            check(state, SystemClock.elapsedRealtime());
+        }
+    }
+
+    private void check(IssueState state, long now) {
+        long dueTime = dueTime(state);
+        mHandler.removeCallbacks(state.check);
+        if (dueTime <= now) {
+            Object event = state.pendingEvent;
+            state.pendingEvent = null;
+            state.reportedLevel = state.level;
+            state.reportedTime = now;
+            mSink.send(event, state.issueKey);
+        } else {
+            mHandler.postDelayed(state.check, dueTime - now);
+        }
+    }
+
+    private static Config config(String issueType) {
+        Config config = sConfigs.get(issueType);
+        return config != null ? config : sDefaultConfig;
+    }
+
+    private static long dueTime(IssueState state) {
+        Config config = config(state.issueType);
+        long dwell = 0;
+        if (state.level > state.reportedLevel) {
+            dwell = config.minDwellMs;
+        } else if (state.level < state.reportedLevel) {
+            dwell = (long) config.minDwellMs + config.recoverDelayMs;
+        }
+        long minInterval = config.maxRate > 0 ? 1000 / config.maxRate : 0;
+        return Math.max(state.levelSince + dwell, state.reportedTime + minInterval);
+    }
+
+    private static void suppressed(String issueType) {
+        AtomicLong counter = sSuppressed.get(issueType);
+        if (counter == null) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = sSuppressed.putIfAbsent(issueType, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        counter.incrementAndGet();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.voximplant.sdk.call.QualityIssue;
+import com.voximplant.sdk.call.QualityIssueLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current levels of the quality issues of a call, kept up to date from the quality issue
+ * callbacks so "Call.getCurrentQualityIssues" does not need to query the SDK.
+ *
+ * Levels are stored by the issue index used in Dart ({@link Utils#convertQualityIssueToInt}).
+ * Each change increments the snapshot version and the version of the changed issue, so only the
+ * issues changed since a version known to Dart are sent. No audio/video receive issues are
+ * reported per stream, their level is the highest level among the streams. A stream is dropped
+ * from it once the stream or its endpoint is removed.
+ *
+ * Levels may change without a callback while a call is reconnecting, so the snapshot is seeded
+ * again from the SDK once the call is reconnected, see {@link #reset}.
+ */
+class QualityIssueSnapshot {
+    private static final int ISSUE_COUNT = 8;
+
+    private final int[] mLevels = new int[ISSUE_COUNT];
+    private final long[] mVersions = new long[ISSUE_COUNT];
+    private long mVersion;
+    // issue index -> stream id -> level, for the issues reported per stream
+    private final Map<Integer, Map<String, Integer>> mStreamLevels = new HashMap<>();
+    // stream id -> endpoint id, for the streams in mStreamLevels
+    private final Map<String, String> mStreamEndpoints = new HashMap<>();
+
+    QualityIssueSnapshot(@Nullable Map<QualityIssue, QualityIssueLevel> issues) {
+        if (issues == null) {
+            return;
+        }
+        for (Map.Entry<QualityIssue, QualityIssueLevel> entry : issues.entrySet()) {
+            mLevels[Utils.convertQualityIssueToInt(entry.getKey())] = Utils.convertQualityIssueLevelToInt(entry.getValue());
+        }
+    }
+
+    synchronized void update(@NonNull QualityIssue issue, @NonNull QualityIssueLevel level) {
+        int index = Utils.convertQualityIssueToInt(issue);
+        setLevel(index, Utils.convertQualityIssueLevelToInt(level));
+    }
+
+    synchronized void update(@NonNull QualityIssue issue, @NonNull String streamId, @NonNull String endpointId,
+                             @NonNull QualityIssueLevel level) {
+        int index = Utils.convertQualityIssueToInt(issue);
+        mStreamEndpoints.put(streamId, endpointId);
+        setLevel(index, updateStreamLevel(index, streamId, Utils.convertQualityIssueLevelToInt(level)));
+    }
+
+    /**
+     * Replaces all levels with the ones the SDK reports now, e.g. after a reconnection.
+     */
+    synchronized void reset(@Nullable Map<QualityIssue, QualityIssueLevel> issues) {
+        mStreamLevels.clear();
+        mStreamEndpoints.clear();
+        int[] levels = new int[ISSUE_COUNT];
+        if (issues != null) {
+            for (Map.Entry<QualityIssue, QualityIssueLevel> entry : issues.entrySet()) {
+                levels[Utils.convertQualityIssueToInt(entry.getKey())] = Utils.convertQualityIssueLevelToInt(entry.getValue());
+            }
+        }
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            setLevel(i, levels[i]);
+        }
+    }
+
+    synchronized void streamRemoved(@NonNull String streamId) {
+        if (mStreamEndpoints.remove(streamId) == null) {
+            return;
+        }
+        for (Map.Entry<Integer, Map<String, Integer>> entry : mStreamLevels.entrySet()) {
+            Map<String, Integer> streams = entry.getValue();
+            if (streams.remove(streamId) != null) {
+                setLevel(entry.getKey(), maxLevel(streams));
+            }
+        }
+    }
+
+    synchronized void endpointRemoved(@NonNull String endpointId) {
+        List<String> streamIds = new ArrayList<>();
+        for (Map.Entry<String, String> entry : mStreamEndpoints.entrySet()) {
+            if (entry.getValue().equals(endpointId)) {
+                streamIds.add(entry.getKey());
+            }
+        }
+        for (String streamId : streamIds) {
+            streamRemoved(streamId);
+        }
+    }
+
+    /**
+     * Returns {version, issues: {issue: level}} with the issues changed after the given version,
+     * or null if nothing has changed. A negative or unknown version returns all issues.
+     */
+    @Nullable
+    synchronized Map<String, Object> changesSince(long version) {
+        if (version == mVersion) {
+            return null;
+        }
+        if (version > mVersion) {
+            version = -1;
+        }
+        Map<Integer, Integer> issues = new HashMap<>();
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            if (mVersions[i] > version) {
+                issues.put(i, mLevels[i]);
+            }
+        }
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("version", mVersion);
+        changes.put("issues", issues);
+        return changes;
+    }
+
+    synchronized Map<Integer, Integer> toMap() {
+        Map<Integer, Integer> issues = new HashMap<>();
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            issues.put(i, mLevels[i]);
+        }
+        return issues;
+    }
+
+    private void setLevel(int index, int level) {
+        if (mLevels[index] == level) {
+            return;
+        }
+        mLevels[index] = level;
+        mVersion++;
+        mVersions[index] = mVersion;
+    }
+
+    private int updateStreamLevel(int index, String streamId, int level) {
+        Map<String, Integer> streams = mStreamLevels.get(index);
+        if (streams == null) {
+            streams = new HashMap<>();
+            mStreamLevels.put(index, streams);
+        }
+        if (level == 0) {
+            streams.remove(streamId);
+        } else {
+            streams.put(streamId, level);
+        }
+        return maxLevel(streams);
+    }
+
+    private static int maxLevel(Map<String, Integer> streams) {
+        int maxLevel = 0;
+        for (int streamLevel : streams.values()) {
+            maxLevel = Math.max(maxLevel, streamLevel);
+        }
+        return maxLevel;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Event sink of an event channel that keeps events sent before Dart starts listening.
+ *
+ * Kept events are bounded in number and age, and are delivered through {@link EventDispatcher}
+ * in the original order when a listener attaches, before any newer event.
+ */
+class ReplayEventSink {
+    private static class BufferedEvent {
+        final Object event;
+        final EventDispatcher.Policy policy;
+        final String key;
+        final long time;
+
+        BufferedEvent(Object event, EventDispatcher.Policy policy, String key, long time) {
+            this.event = event;
+            this.policy = policy;
+            this.key = key;
+            this.time = time;
+        }
+    }
+
+    private final EventDispatcher mEventDispatcher = EventDispatcher.getInstance();
+    private final ArrayDeque<BufferedEvent> mBuffer = new ArrayDeque<>();
+    private final int mCapacity;
+    private final long mMaxAgeMs;
+    private EventChannel.EventSink mSink;
+
+    ReplayEventSink(int capacity, long maxAgeMs) {
+        mCapacity = capacity;
+        mMaxAgeMs = maxAgeMs;
+    }
+
+    synchronized void setSink(@Nullable EventChannel.EventSink sink) {
+        mSink = sink;
+        if (sink == null) {
+            return;
+        }
+        long now = SystemClock.elapsedRealtime();
+        for (BufferedEvent buffered : mBuffer) {
+            if (now - buffered.time <= mMaxAgeMs) {
+                mEventDispatcher.send(sink, buffered.event, buffered.policy, buffered.key);
+            }
+        }
+        mBuffer.clear();
+    }
+
+    synchronized boolean isListening() {
+        return mSink != null;
+    }
+
+    void send(@NonNull Object event) {
+        send(event, EventDispatcher.Policy.KEEP, null);
+    }
+
+    synchronized void send(@NonNull Object event, @NonNull EventDispatcher.Policy policy, @Nullable String key) {
+        if (mSink != null) {
+            mEventDispatcher.send(mSink, event, policy, key);
+            return;
+        }
+        if (mCapacity == 0) {
+            return;
+        }
+        long now = SystemClock.elapsedRealtime();
+        while (!mBuffer.isEmpty() && (now - mBuffer.peekFirst().time > mMaxAgeMs || mBuffer.size() >= mCapacity)) {
+            mBuffer.pollFirst();
+        }
+        mBuffer.addLast(new BufferedEvent(event, policy, key, now));
+    }
+}
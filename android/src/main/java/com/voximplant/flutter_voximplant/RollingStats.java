@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Min, average, p95 and max of a metric over recent time windows and over its lifetime.
+ *
+ * The latest samples are kept in primitive ring buffers for window queries. Lifetime values are
+ * running totals plus a {@link LatencyHistogram} of the values in thousandths, so the lifetime
+ * p95 has the histogram's precision. Not thread safe.
+ */
+class RollingStats {
+    static final int CAPACITY = 128;
+    private static final double SCALE = 1000;
+
+    private final long[] mTimes = new long[CAPACITY];
+    private final double[] mValues = new double[CAPACITY];
+    private int mSize;
+    private int mNext;
+
+    private final LatencyHistogram mLifetime = new LatencyHistogram();
+    private long mCount;
+    private double mSum;
+    private double mMin = Double.MAX_VALUE;
+    private double mMax = -Double.MAX_VALUE;
+
+    void add(long timeMs, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return;
+        }
+        mTimes[mNext] = timeMs;
+        mValues[mNext] = value;
+        mNext = (mNext + 1) % CAPACITY;
+        if (mSize < CAPACITY) {
+            mSize++;
+        }
+        mCount++;
+        mSum += value;
+        mMin = Math.min(mMin, value);
+        mMax = Math.max(mMax, value);
+        mLifetime.record((long) (value * SCALE));
+    }
+
+    boolean isEmpty() {
+        return mCount == 0;
+    }
+
+    /**
+     * Returns the summary of samples added within the window before now.
+     *
+     * @param scratch an array of at least {@link #CAPACITY} elements to sort the samples in
+     */
+    Map<String, Object> window(long nowMs, long windowMs, @NonNull double[] scratch) {
+        int count = 0;
+        for (int i = 0; i < mSize; i++) {
+            int index = (mNext - 1 - i + CAPACITY) % CAPACITY;
+            if (nowMs - mTimes[index] > windowMs) {
+                break;
+            }
+            scratch[count++] = mValues[index];
+        }
+        if (count == 0) {
+            return summary(0, 0, 0, 0, 0);
+        }
+        Arrays.sort(scratch, 0, count);
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += scratch[i];
+        }
+        int p95 = (int) Math.ceil(count * 0.95) - 1;
+        return summary(count, scratch[0], sum / count, scratch[p95], scratch[count - 1]);
+    }
+
+    Map<String, Object> lifetime() {
+        if (mCount == 0) {
+            return summary(0, 0, 0, 0, 0);
+        }
+        double p95 = Math.min(mLifetime.percentile(0.95) / SCALE, mMax);
+        return summary(mCount, mMin, mSum / mCount, p95, mMax);
+    }
+
+    private static Map<String, Object> summary(long count, double min, double avg, double p95, double max) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("count", count);
+        summary.put("min", min);
+        summary.put("avg", avg);
+        summary.put("p95", p95);
+        summary.put("max", max);
+        return summary;
+    }
+}
@@ -53,9 +53,6 @@ import static com.voximplant.flutter_voximplant.VoximplantErrors.Messaging.ERROR
 import static com.voximplant.flutter_voximplant.VoximplantErrors.Messaging.ERROR_USER_VALIDATION;
 import static com.voximplant.flutter_voximplant.VoximplantErrors.Messaging.ERROR_WRONG_SEQUENCE_ARGUMENT;
 
-import java.util.HashMap;
-import java.util.Map;
-
 class Utils {
     static String convertLoginErrorToString(LoginError error) {
         switch (error) {
@@ -350,12 +347,4 @@ class Utils {
 
         }
     }
-
-    static Map<Integer, Integer> convertQualityIssuesMapToHashMap(Map<QualityIssue, QualityIssueLevel> issues) {
-        Map<Integer, Integer> parsedIssues = new HashMap<>();
-        for(Map.Entry<QualityIssue, QualityIssueLevel> pair : issues.entrySet()) {
-            parsedIssues.put(convertQualityIssueToInt(pair.getKey()), convertQualityIssueLevelToInt(pair.getValue()));
-        }
-        return parsedIssues;
-    }
 }
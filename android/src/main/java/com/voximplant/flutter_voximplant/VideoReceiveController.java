@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.voximplant.sdk.call.IRemoteVideoStream;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controls receiving of remote video streams of a call from the visibility and size of their
+ * video views, reported from Dart via "VideoStream.setVisibility", and from the
+ * {@link ActiveSpeakerSelector} selection of their endpoints.
+ *
+ * A stream whose view stays hidden for {@link #HIDE_DELAY_MS} stops being received, and is
+ * received again as soon as the view is visible. The view size in pixels is requested from the
+ * stream once it holds for {@link #RESIZE_DELAY_MS} and differs from the requested size by more
+ * than {@link #RESIZE_THRESHOLD}, so layout animations and small changes do not cause requests.
+ * A stream of an endpoint that is not selected stops being received at once.
+ *
+ * Only streams with reported visibility or a deselected endpoint are controlled. Must be used on
+ * the main thread.
+ */
+class VideoReceiveController {
+    static final long HIDE_DELAY_MS = 1000;
+    static final long RESIZE_DELAY_MS = 500;
+    static final double RESIZE_THRESHOLD = 0.25;
+
+    private static class StreamState {
+        final IRemoteVideoStream stream;
+        final Runnable apply;
+        boolean visible = true;
+        boolean selected = true;
+        int width;
+        int height;
+        boolean stopped;
+        int requestedWidth;
+        int requestedHeight;
+
+        StreamState(IRemoteVideoStream stream, Runnable apply) {
+            this.stream = stream;
+            this.apply = apply;
+        }
+    }
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Map<String, StreamState> mStreams = new HashMap<>();
+
+    /**
+     * @param width  view width in pixels, 0 if unknown
+     * @param height view height in pixels, 0 if unknown
+     */
+    void update(@NonNull IRemoteVideoStream stream, boolean visible, int width, int height) {
+        String streamId = stream.getVideoStreamId();
+        StreamState state = getState(stream);
+        state.visible = visible;
+        state.width = width;
+        state.height = height;
+        mHandler.removeCallbacks(state.apply);
+        if (visible && state.stopped) {
+            apply(streamId);
+        } else if (!visible && !state.stopped) {
+            mHandler.postDelayed(state.apply, HIDE_DELAY_MS);
+        } else if (visible && needsResize(state)) {
+            mHandler.postDelayed(state.apply, RESIZE_DELAY_MS);
+        }
+    }
+
+    /**
+     * Sets whether the endpoint of the stream is selected to be received.
+     */
+    void setSelected(@NonNull IRemoteVideoStream stream, boolean selected) {
+        StreamState state = mStreams.get(stream.getVideoStreamId());
+        if (state == null && selected) {
+            return;
+        }
+        if (state == null) {
+            state = getState(stream);
+        }
+        if (state.selected != selected) {
+            state.selected = selected;
+            mHandler.removeCallbacks(state.apply);
+            apply(stream.getVideoStreamId());
+        }
+    }
+
+    /**
+     * Stops controlling the stream by its view, or entirely if the stream is removed.
+     *
+     * @param restore whether the stream remains, then it is received again if it was stopped by
+     *                the controller and its endpoint is selected
+     */
+    void remove(@NonNull String streamId, boolean restore) {
+        StreamState state = mStreams.get(streamId);
+        if (state == null) {
+            return;
+        }
+        mHandler.removeCallbacks(state.apply);
+        if (restore && !state.selected) {
+            state.visible = true;
+            state.width = 0;
+            state.height = 0;
+            return;
+        }
+        mStreams.remove(streamId);
+        if (restore && state.stopped) {
+            state.stream.startReceiving();
+        }
+    }
+
+    void release() {
+        for (StreamState state : mStreams.values()) {
+            mHandler.removeCallbacks(state.apply);
+        }
+        mStreams.clear();
+    }
+
+    private void apply(String streamId) {
+        StreamState state = mStreams.get(streamId);
+        if (state == null) {
+            return;
+        }
+        if (!state.visible || !state.selected) {
+            if (!state.stopped) {
+                state.stopped = true;
+                state.stream.stopReceiving();
+            }
+            return;
+        }
+        if (state.stopped) {
+            state.stopped = false;
+            state.stream.startReceiving();
+        }
+        if (needsResize(state)) {
+            state.requestedWidth = state.width;
+            state.requestedHeight = state.height;
+            state.stream.requestVideoSize(state.width, state.height);
+        }
+    }
+
+    private StreamState getState(IRemoteVideoStream stream) {
+        String streamId = stream.getVideoStreamId();
+        StreamState state = mStreams.get(streamId);
+        if (state == null) {
+            state = new StreamState(stream, () -> apply(streamId));
+            mStreams.put(streamId, state);
+        }
+        return state;
+    }
+
+    private static boolean needsResize(StreamState state) {
+        if (state.width <= 0 || state.height <= 0) {
+            return false;
+        }
+        return Math.abs(state.width - state.requestedWidth) > state.requestedWidth * RESIZE_THRESHOLD
+                || Math.abs(state.height - state.requestedHeight) > state.requestedHeight * RESIZE_THRESHOLD;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+package com.voximplant.flutter_voximplant;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+import io.flutter.view.TextureRegistry;
+
+/**
+ * Renderers removed from video streams, kept with their texture, event channel and render thread
+ * to be bound to the next stream instead of creating new ones.
+ *
+ * The pool keeps up to max size renderers and releases those idle for longer than the idle
+ * timeout. Both are configured from Dart via "VideoStream.setRendererPool", max size 0 disables
+ * pooling.
+ */
+class VideoRendererPool {
+    static final int DEFAULT_MAX_SIZE = 4;
+    static final long DEFAULT_IDLE_TIMEOUT_MS = 30000;
+
+    private static class IdleRenderer {
+        final VoximplantRenderer renderer;
+        final long since;
+
+        IdleRenderer(VoximplantRenderer renderer, long since) {
+            this.renderer = renderer;
+            this.since = since;
+        }
+    }
+
+    private final BinaryMessenger mMessenger;
+    private final TextureRegistry mTextures;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    // the most recently recycled renderer is last
+    private final ArrayDeque<IdleRenderer> mIdle = new ArrayDeque<>();
+    private final Runnable mEvict = this::evictIdle;
+    private int mMaxSize = DEFAULT_MAX_SIZE;
+    private long mIdleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+    private boolean mClosed;
+
+    VideoRendererPool(@NonNull BinaryMessenger messenger, @NonNull TextureRegistry textures) {
+        mMessenger = messenger;
+        mTextures = textures;
+    }
+
+    void registerMethods(MethodRouter router) {
+        router.register(CallModule.VIDEO_STREAM_TYPE, "setRendererPool", this::setRendererPool);
+    }
+
+    private void setRendererPool(MethodCall call, MethodChannel.Result result) {
+        Integer maxSize = call.argument("maxSize");
+        Integer idleTimeout = call.argument("idleTimeout");
+        if (maxSize == null || maxSize < 0 || idleTimeout == null || idleTimeout < 0) {
+            mHandler.post(() -> result.error(VoximplantErrors.ERROR_INVALID_ARGUMENTS, "VideoStream.setRendererPool: Invalid arguments", null));
+            return;
+        }
+        List<VoximplantRenderer> evicted = new ArrayList<>();
+        synchronized (this) {
+            mMaxSize = maxSize;
+            mIdleTimeoutMs = idleTimeout;
+            while (mIdle.size() > mMaxSize) {
+                evicted.add(mIdle.pollFirst().renderer);
+            }
+        }
+        for (VoximplantRenderer renderer : evicted) {
+            renderer.releaseAsync(null);
+        }
+        evictIdle();
+        mHandler.post(() -> result.success(null));
+    }
+
+    /**
+     * Returns an idle renderer, or a new one if there is none.
+     *
+     * @param firstFrameListener called on the render thread when the first frame is rendered
+     */
+    VoximplantRenderer acquire(@Nullable Runnable firstFrameListener) {
+        IdleRenderer idle;
+        synchronized (this) {
+            idle = mIdle.pollLast();
+        }
+        VoximplantRenderer renderer = idle != null ? idle.renderer : new VoximplantRenderer(mMessenger, mTextures);
+        renderer.bind(firstFrameListener);
+        return renderer;
+    }
+
+    /**
+     * Keeps the renderer for reuse or releases it asynchronously if the pool is full. The renderer
+     * must be removed from its video stream.
+     *
+     * @param onRecycled called on the main thread when the renderer is pooled or released
+     */
+    void recycle(@NonNull VoximplantRenderer renderer, @Nullable Runnable onRecycled) {
+        synchronized (this) {
+            if (mClosed || mIdle.size() >= mMaxSize) {
+                renderer.releaseAsync(onRecycled);
+                return;
+            }
+        }
+        if (!renderer.reset()) {
+            renderer.releaseAsync(onRecycled);
+            return;
+        }
+        synchronized (this) {
+            if (!mClosed && mIdle.size() < mMaxSize) {
+                mIdle.addLast(new IdleRenderer(renderer, SystemClock.elapsedRealtime()));
+                if (mIdle.size() == 1) {
+                    mHandler.postDelayed(mEvict, mIdleTimeoutMs);
+                }
+                if (onRecycled != null) {
+                    mHandler.post(onRecycled);
+                }
+                return;
+            }
+        }
+        renderer.releaseAsync(onRecycled);
+    }
+
+    /**
+     * Removes all idle renderers without releasing them. Later recycled renderers are released.
+     */
+    synchronized List<VoximplantRenderer> close() {
+        mClosed = true;
+        mHandler.removeCallbacks(mEvict);
+        List<VoximplantRenderer> renderers = new ArrayList<>();
+        for (IdleRenderer idle : mIdle) {
+            renderers.add(idle.renderer);
+        }
+        mIdle.clear();
+        return renderers;
+    }
+
+    private void evictIdle() {
+        List<VoximplantRenderer> evicted = new ArrayList<>();
+        synchronized (this) {
+            mHandler.removeCallbacks(mEvict);
+            long now = SystemClock.elapsedRealtime();
+            while (!mIdle.isEmpty() && now - mIdle.peekFirst().since >= mIdleTimeoutMs) {
+                evicted.add(mIdle.pollFirst().renderer);
+            }
+            if (!mIdle.isEmpty()) {
+                mHandler.postDelayed(mEvict, mIdle.peekFirst().since + mIdleTimeoutMs - now);
+            }
+        }
+        for (VoximplantRenderer renderer : evicted) {
+            renderer.releaseAsync(null);
+        }
+    }
+}
@@ -10,6 +10,7 @@ class VoximplantErrors {
     static final String ERROR_MISSING_PERMISSION = "ERROR_MISSING_PERMISSION";
     static final String ERROR_INTERNAL = "ERROR_INTERNAL";
     static final String ERROR_INVALID_ARGUMENTS = "ERROR_INVALID_ARGUMENTS";
+    static final String ERROR_NOT_IMPLEMENTED = "ERROR_NOT_IMPLEMENTED";
     static final String ERROR_ALREADY_IN_THIS_STATE = "ERROR_ALREADY_IN_THIS_STATE";
     static final String ERROR_REJECTED = "ERROR_REJECTED";
     static final String ERROR_FUNCTIONALITY_IS_DISABLED = "ERROR_FUNCTIONALITY_IS_DISABLED";
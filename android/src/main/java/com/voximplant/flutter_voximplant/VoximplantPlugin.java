@@ -10,25 +10,28 @@ import androidx.annotation.NonNull;
 
 import com.voximplant.sdk.Voximplant;
 
-import java.util.regex.Pattern;
-
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugin.common.StandardMethodCodec;
 import io.flutter.view.TextureRegistry;
 
 public class VoximplantPlugin implements MethodCallHandler, FlutterPlugin {
     private MethodChannel mChannel;
+    private MethodChannel mBackgroundChannel;
     private AudioDeviceModule mAudioDeviceModule;
     private ClientModule mClientModule;
     private CallManager mCallManager;
+    private VideoRendererPool mRendererPool;
     private CameraModule mCameraModule;
     private MessagingModule mMessagingModule;
     private AudioFileManager mAudioFileManager;
     private final LoggerModule mLoggerModule = LoggerModule.getInstance();
+    private MethodRouter mMethodRouter;
+    private MethodRouter mBackgroundMethodRouter;
 
     public VoximplantPlugin() {
         Voximplant.subVersion = "flutter-3.17.0";
@@ -36,13 +39,46 @@ public class VoximplantPlugin implements MethodCallHandler, FlutterPlugin {
 
     private void configure(Context context, TextureRegistry textures, BinaryMessenger messenger) {
         mChannel = new MethodChannel(messenger, "plugins.voximplant.com/client");
+        mBackgroundChannel = new MethodChannel(messenger, "plugins.voximplant.com/client_background",
+                StandardMethodCodec.INSTANCE, messenger.makeBackgroundTaskQueue());
         mCallManager = new CallManager();
+        mRendererPool = new VideoRendererPool(messenger, textures);
         mAudioDeviceModule = new AudioDeviceModule(messenger);
-        mClientModule = new ClientModule(messenger, context, textures, mCallManager);
+        mClientModule = new ClientModule(messenger, context, mRendererPool, mCallManager);
         mCameraModule = new CameraModule(context);
-        mChannel.setMethodCallHandler(this);
         mMessagingModule = new MessagingModule(messenger);
         mAudioFileManager = new AudioFileManager(messenger, context);
+
+        MetricsModule metricsModule = new MetricsModule();
+        MethodRouter router = new MethodRouter(metricsModule);
+        mMessagingModule.registerMethods(router);
+        mClientModule.registerMethods(router);
+        CallModule.registerMethods(router, mCallManager);
+        mRendererPool.registerMethods(router);
+        mAudioDeviceModule.registerMethods(router);
+        mCameraModule.registerMethods(router);
+        mAudioFileManager.registerMethods(router);
+        mLoggerModule.registerMethods(router);
+        new BatchModule(router).registerMethods(router);
+        metricsModule.registerMethods(router);
+        CallSetupMetrics.getInstance().registerMethods(router);
+        CallStatsRecorder.registerMethods(router);
+        QualityIssueDebouncer.registerMethods(router);
+        new BinaryEventCodec().registerMethods(router);
+        EventDispatcher.getInstance().registerMethods(router);
+        mMethodRouter = router;
+
+        // Modules that do not touch UI or video are also served on a background task queue,
+        // so their work does not compete with frame rendering on the main thread.
+        MethodRouter backgroundRouter = new MethodRouter(metricsModule);
+        mMessagingModule.registerMethods(backgroundRouter);
+        mAudioFileManager.registerMethods(backgroundRouter);
+        mLoggerModule.registerMethods(backgroundRouter);
+        new BatchModule(backgroundRouter).registerMethods(backgroundRouter);
+        mBackgroundMethodRouter = backgroundRouter;
+
+        mChannel.setMethodCallHandler(this);
+        mBackgroundChannel.setMethodCallHandler((call, result) -> dispatch(mBackgroundMethodRouter, call, result));
     }
 
     @Override
@@ -58,72 +94,35 @@ public class VoximplantPlugin implements MethodCallHandler, FlutterPlugin {
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
         mLoggerModule.logInfo("VoximplantPlugin detached from engine");
         if (mCallManager != null) {
-            mCallManager.endAllCalls();
+            new CallTeardown().start(mCallManager, mRendererPool, CallTeardown.DEFAULT_DEADLINE_MS);
+        }
+        if (mClientModule != null) {
+            mClientModule.close();
         }
         if (mChannel != null) {
             mChannel.setMethodCallHandler(null);
             mChannel = null;
         }
+        if (mBackgroundChannel != null) {
+            mBackgroundChannel.setMethodCallHandler(null);
+            mBackgroundChannel = null;
+        }
     }
 
     @Override
     public void onMethodCall(@NonNull MethodCall call, @NonNull Result result) {
-        mLoggerModule.logInfo("VoximplantPlugin method called: " + call.method + ", with arguments: " + call.arguments);
-
-        String MESSAGING = "Messaging";
-        String CLIENT = "Client";
-        String CALL = "Call";
-        String AUDIO_DEVICE = "AudioDevice";
-        String VIDEO_STREAM = "VideoStream";
-        String CAMERA = "Camera";
-        String AUDIO_FILE = "AudioFile";
-        String LOGGER = "Logger";
-
-        if (isMethodCallOfType(MESSAGING, call)) {
-            mMessagingModule.handleMethodCall(excludeMethodType(call), result);
-
-        } else if (isMethodCallOfType(CLIENT, call)) {
-            mClientModule.handleMethodCall(excludeMethodType(call), result);
-
-        } else if (isMethodCallOfType(CALL, call)) {
-            MethodCall method = excludeMethodType(call);
-            CallModule callModule = mCallManager.checkCallEvent(method, result, "Call." + method);
-            if (callModule != null) {
-                callModule.handleMethodCall(method, result);
-            }
-
-        } else if (isMethodCallOfType(VIDEO_STREAM, call)) {
-            MethodCall method = excludeMethodType(call);
-            CallModule callModule = mCallManager.findCallByStreamId(method, result, "Call." + method);
-            if (callModule != null) {
-                callModule.handleMethodCall(method, result);
-            }
-
-        } else if (isMethodCallOfType(AUDIO_DEVICE, call)) {
-            mAudioDeviceModule.handleMethodCall(excludeMethodType(call), result);
-
-        } else if (isMethodCallOfType(CAMERA, call)) {
-            mCameraModule.handleMethodCall(excludeMethodType(call), result);
-
-        } else if (isMethodCallOfType(AUDIO_FILE, call)) {
-            mAudioFileManager.handleMethodCall(excludeMethodType(call), result);
-
-        } else if (isMethodCallOfType(LOGGER, call)) {
-            mLoggerModule.handleMethodCall(excludeMethodType(call), result);
-        } else {
-            result.notImplemented();
-        }
+        dispatch(mMethodRouter, call, result);
     }
 
-    private boolean isMethodCallOfType(String type, MethodCall call) {
-        String separator = ".";
-        String methodName = call.method;
-        String[] methodNameComponents = methodName.split(Pattern.quote(separator));
-        return  methodNameComponents.length > 0 && methodNameComponents[0].equals(type);
-    }
+    private void dispatch(@NonNull MethodRouter router, @NonNull MethodCall call, @NonNull Result result) {
+        // the message is only built if a log file is configured
+        if (mLoggerModule.isLogging()) {
+            mLoggerModule.logInfo("VoximplantPlugin method called: " + call.method
+                    + ", with arguments: " + ArgumentsFormatter.format(call.method, call.arguments));
+        }
 
-    private MethodCall excludeMethodType(MethodCall call) {
-        String[] methodNameComponents = call.method.split(Pattern.quote("."));
-        return new MethodCall(methodNameComponents.length > 0 ? methodNameComponents[1] : call.method, call.arguments);
+        if (!router.dispatch(call, result)) {
+            result.notImplemented();
+        }
     }
 }
@@ -9,15 +9,17 @@ import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
 
+import androidx.annotation.Nullable;
+
 import com.voximplant.webrtc.EglBase;
 import com.voximplant.webrtc.GlRectDrawer;
 import com.voximplant.webrtc.RendererCommon;
 import com.voximplant.webrtc.SurfaceEglRenderer;
-import com.voximplant.webrtc.ThreadUtils;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
@@ -25,19 +27,32 @@ import io.flutter.view.TextureRegistry;
 
 class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.StreamHandler {
     private final String TAG_NAME = "VOXFLUTTER";
+    // Waits for render threads to stop, so releasing renderers does not block the main thread
+    private static final ExecutorService sReleaseExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vox_renderer_release");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
     private final TextureRegistry.SurfaceTextureEntry mSurfaceTextureEntry;
     private final SurfaceTexture mSurfaceTexture;
 
     private final EventChannel mRendererEventChannel;
-    private EventChannel.EventSink mRendererEventSink;
-    private boolean mReportRendererEvent;
-
+    // Keeps the latest resolution until Dart listens.
+    private final ReplayEventSink mRendererEventSink = new ReplayEventSink(1, Long.MAX_VALUE);
+
+    // The SDK reports the first frame and resolution changes once per renderer, a frame listener
+    // reports the first frame of each stream the renderer is bound to.
+    private final SurfaceEglRenderer.FrameListener mFrameListener = bitmap -> onFirstFrameOfStream();
+    private volatile Runnable mFirstFrameListener;
+    private boolean mFrameListenerAdded;
+    private boolean mResendResolution;
+    // null once released, guarded by this so a renderer is released only once
     private SurfaceEglRenderer mRenderer;
     private int mFrameWidth;
     private int mFrameHeight;
     private double mAspectRatio;
     private int mRotation;
-    private final Handler mHandler = new Handler(Looper.getMainLooper());
 
     VoximplantRenderer(BinaryMessenger messenger, TextureRegistry textures) {
         mSurfaceTextureEntry = textures.createSurfaceTexture();
@@ -52,18 +67,81 @@ class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.
 
     }
 
-    void release() {
-        Log.i(TAG_NAME, "VoximplantRenderer: release");
-        if (mRenderer != null) {
-            final CountDownLatch completionLatch = new CountDownLatch(1);
-            mRenderer.releaseEglSurface(completionLatch::countDown);
-            ThreadUtils.awaitUninterruptibly(completionLatch);
-            mRenderer.release();
+    /**
+     * Prepares the renderer to be added to a video stream.
+     *
+     * @param firstFrameListener called on the render thread when the first frame is rendered
+     */
+    void bind(@Nullable Runnable firstFrameListener) {
+        mFirstFrameListener = firstFrameListener;
+        SurfaceEglRenderer renderer;
+        synchronized (this) {
+            renderer = mRenderer;
+            if (renderer == null) {
+                return;
+            }
+            // a reused renderer does not report a resolution equal to the one of the previous stream
+            mResendResolution = mFrameWidth != 0;
+            if (mFrameListenerAdded) {
+                // not called yet, it reports the first frame of this stream instead
+                return;
+            }
+            mFrameListenerAdded = true;
+        }
+        renderer.addFrameListener(mFrameListener, 0);
+    }
+
+    /**
+     * Clears the last frame and forgets the listener after the renderer is removed from its
+     * video stream, so it can be bound to another one.
+     *
+     * @return false if the renderer has been released
+     */
+    boolean reset() {
+        mFirstFrameListener = null;
+        SurfaceEglRenderer renderer = getRenderer();
+        if (renderer == null) {
+            return false;
+        }
+        renderer.clearImage();
+        return true;
+    }
+
+    /**
+     * Releases the renderer without blocking the calling thread. The EGL surface is released on
+     * the render thread, then the render thread is stopped on a background thread. The texture
+     * and its event channel are released on the main thread afterwards, once nothing renders to
+     * the texture. Releasing an already released renderer only calls the callback.
+     *
+     * @param onReleased called on the main thread when the renderer is released
+     */
+    void releaseAsync(@Nullable Runnable onReleased) {
+        SurfaceEglRenderer renderer;
+        synchronized (this) {
+            renderer = mRenderer;
             mRenderer = null;
         }
+        if (renderer == null) {
+            if (onReleased != null) {
+                mHandler.post(onReleased);
+            }
+            return;
+        }
+        Log.i(TAG_NAME, "VoximplantRenderer: release async");
+        renderer.releaseEglSurface(() -> sReleaseExecutor.execute(() -> {
+            renderer.release();
+            mHandler.post(() -> {
+                mRendererEventChannel.setStreamHandler(null);
+                mRendererEventSink.setSink(null);
+                mSurfaceTextureEntry.release();
+                if (onReleased != null) {
+                    onReleased.run();
+                }
+            });
+        }));
     }
 
-    SurfaceEglRenderer getRenderer() {
+    synchronized SurfaceEglRenderer getRenderer() {
         return mRenderer;
     }
 
@@ -76,8 +154,22 @@ class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.
         Log.e(TAG_NAME, "onFirstFrameRendered");
     }
 
+    private void onFirstFrameOfStream() {
+        Runnable firstFrameListener = mFirstFrameListener;
+        if (firstFrameListener != null) {
+            firstFrameListener.run();
+        }
+        synchronized (this) {
+            mFrameListenerAdded = false;
+            if (mResendResolution) {
+                mResendResolution = false;
+                sendResolutionChangedEvent();
+            }
+        }
+    }
+
     @Override
-    public void onFrameResolutionChanged(int videoWidth, int videoHeight, int rotation) {
+    public synchronized void onFrameResolutionChanged(int videoWidth, int videoHeight, int rotation) {
         Log.e(TAG_NAME, "onFrameResolutionChanged: " + videoWidth + " " + videoHeight + " " + rotation);
         mSurfaceTexture.setDefaultBufferSize(videoWidth, videoHeight);
         if (mFrameWidth != videoWidth || mFrameHeight != videoHeight || mRotation != rotation) {
@@ -89,32 +181,28 @@ class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.
                 mFrameHeight = videoHeight;
             }
             mRotation = rotation;
+            mResendResolution = false;
             sendResolutionChangedEvent();
         }
     }
 
     private void sendResolutionChangedEvent() {
-        if (mRendererEventSink != null) {
-            Map<String, Object> params = new HashMap<>();
-            params.put("event", "resolutionChanged");
-            params.put("width", mFrameWidth);
-            params.put("height", mFrameHeight);
+        Object params;
+        if (BinaryEventCodec.isEnabled()) {
+            params = BinaryEventCodec.resolutionChanged(mFrameWidth, mFrameHeight, mRotation / 90, getTextureId());
+        } else {
+            Map<String, Object> map = new HashMap<>();
+            map.put("event", "resolutionChanged");
+            map.put("width", mFrameWidth);
+            map.put("height", mFrameHeight);
             if (mFrameHeight != 0) {
-                params.put("aspectRatio", (double) mFrameWidth / mFrameHeight);
+                map.put("aspectRatio", (double) mFrameWidth / mFrameHeight);
             }
-            params.put("rotation", mRotation / 90);
-            params.put("textureId", getTextureId());
-            mHandler.post(() -> {
-                synchronized (this) {
-                    if (mRendererEventSink != null) {
-                        mRendererEventSink.success(params);
-                    }
-                }
-            });
-            mReportRendererEvent = false;
-        } else {
-            mReportRendererEvent = true;
+            map.put("rotation", mRotation / 90);
+            map.put("textureId", getTextureId());
+            params = map;
         }
+        mRendererEventSink.send(params, EventDispatcher.Policy.LATEST, "resolutionChanged");
     }
 
     @Override
@@ -122,12 +210,7 @@ class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.
         if (arguments instanceof String) {
             String type = (String) arguments;
             if (type.equals("plugins.voximplant.com/renderer_" + getTextureId())) {
-                synchronized (this) {
-                    mRendererEventSink = events;
-                }
-                if (mReportRendererEvent) {
-                    sendResolutionChangedEvent();
-                }
+                mRendererEventSink.setSink(events);
             }
         }
     }
@@ -137,9 +220,7 @@ class VoximplantRenderer implements RendererCommon.RendererEvents, EventChannel.
         if (arguments instanceof String) {
             String type = (String) arguments;
             if (type.equals("plugins.voximplant.com/renderer_" + getTextureId())) {
-                synchronized (this) {
-                    mRendererEventSink = null;
-                }
+                mRendererEventSink.setSink(null);
             }
         }
     }
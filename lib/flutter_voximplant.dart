@@ -2,11 +2,15 @@
 
 import 'dart:io';
 import 'dart:async';
+import 'dart:convert';
+import 'dart:typed_data';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 
 part 'src/log.dart';
 part 'src/voximplant.dart';
+part 'src/binary_events.dart';
+part 'src/event_batch.dart';
 part 'src/client/client.dart';
 part 'src/client/client_config.dart';
 part 'src/call/call.dart';
@@ -14,6 +18,7 @@ part 'src/call/endpoint.dart';
 part 'src/call/video_stream.dart';
 part 'src/call/video_view.dart';
 part 'src/call/quality_issue.dart';
+part 'src/call/call_stats.dart';
 part 'src/hardware/audio_device_manager.dart';
 part 'src/hardware/camera_manager.dart';
 part 'src/error_codes.dart';
@@ -0,0 +1,140 @@
+// Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+
+part of '../flutter_voximplant.dart';
+
+/// Decoder of the compact binary event format sent by the Android plugin
+/// when [Voximplant.setBinaryEventsEnabled] is used.
+///
+/// Events are decoded into the same maps as the regular event format.
+/// Layouts must match BinaryEventCodec.java.
+class _VIBinaryEvents {
+  static const int _version = 1;
+  static const int _nullString = 0xFFFF;
+
+  static const Map<int, String> _qualityIssueNames = {
+    1: 'VIQualityIssueTypePacketLoss',
+    2: 'VIQualityIssueTypeCodecMismatch',
+    3: 'VIQualityIssueTypeLocalVideoDegradation',
+    4: 'VIQualityIssueTypeIceDisconnected',
+    5: 'VIQualityIssueTypeHighMediaLatency',
+    6: 'VIQualityIssueTypeNoAudioSignal',
+    7: 'VIQualityIssueTypeNoAudioReceive',
+    8: 'VIQualityIssueTypeNoVideoReceive',
+  };
+
+  /// Returns [event] as is if it is not a binary event.
+  static Map<dynamic, dynamic> decode(dynamic event) {
+    if (event is! Uint8List) {
+      return event;
+    }
+    final reader = _VIBinaryEventReader(event);
+    if (reader.readUint8() != _version) {
+      return {};
+    }
+    final tag = reader.readUint8();
+    switch (tag) {
+      case 1:
+      case 5:
+        final level = reader.readUint8();
+        final value = reader.readFloat64();
+        return {
+          'event': _qualityIssueNames[tag],
+          'issueLevel': level,
+          (tag == 1 ? 'packetLoss' : 'latency'): value,
+        };
+      case 2:
+        return {
+          'event': _qualityIssueNames[tag],
+          'issueLevel': reader.readUint8(),
+          'codec': reader.readString(),
+        };
+      case 3:
+        final level = reader.readUint8();
+        final targetWidth = reader.readInt32();
+        final targetHeight = reader.readInt32();
+        final actualWidth = reader.readInt32();
+        final actualHeight = reader.readInt32();
+        return {
+          'event': _qualityIssueNames[tag],
+          'issueLevel': level,
+          'targetSizeStruct': {'width': targetWidth, 'height': targetHeight},
+          'actualSizeStruct': {'width': actualWidth, 'height': actualHeight},
+        };
+      case 4:
+      case 6:
+        return {
+          'event': _qualityIssueNames[tag],
+          'issueLevel': reader.readUint8(),
+        };
+      case 7:
+      case 8:
+        final level = reader.readUint8();
+        final streamId = reader.readString();
+        final endpointId = reader.readString();
+        return {
+          'event': _qualityIssueNames[tag],
+          'issueLevel': level,
+          (tag == 7 ? 'audiostreamId' : 'videostreamId'): streamId,
+          'endpointId': endpointId,
+        };
+      case 16:
+        final width = reader.readInt32();
+        final height = reader.readInt32();
+        final rotation = reader.readUint8();
+        final textureId = reader.readInt32();
+        return {
+          'event': 'resolutionChanged',
+          'width': width,
+          'height': height,
+          if (height != 0) 'aspectRatio': width / height,
+          'rotation': rotation,
+          'textureId': textureId,
+        };
+      case 32:
+      case 33:
+        return {
+          'event': tag == 32
+              ? 'endpointVoiceActivityStarted'
+              : 'endpointVoiceActivityStopped',
+          'endpointId': reader.readString(),
+        };
+      default:
+        return {};
+    }
+  }
+}
+
+class _VIBinaryEventReader {
+  final ByteData _data;
+  final Uint8List _bytes;
+  int _offset = 0;
+
+  _VIBinaryEventReader(this._bytes)
+      : _data = ByteData.sublistView(_bytes);
+
+  int readUint8() => _data.getUint8(_offset++);
+
+  int readInt32() {
+    final value = _data.getInt32(_offset, Endian.little);
+    _offset += 4;
+    return value;
+  }
+
+  double readFloat64() {
+    final value = _data.getFloat64(_offset, Endian.little);
+    _offset += 8;
+    return value;
+  }
+
+  String? readString() {
+    final length = _data.getUint16(_offset, Endian.little);
+    _offset += 2;
+    if (length == _VIBinaryEvents._nullString) {
+      return null;
+    }
+    final value = utf8.decode(
+        Uint8List.sublistView(_bytes, _offset, _offset + length));
+    _offset += length;
+    return value;
+  }
+}
@@ -213,6 +213,18 @@ typedef VILocalVideoStreamAdded = void Function(
 typedef VILocalVideoStreamRemoved = void Function(
     VICall call, VIVideoStream videoStream);
 
+/// Signature for callbacks reporting that the endpoints whose video is
+/// received have changed, see [VICall.setActiveSpeakerSelection].
+///
+/// Used in [VICall].
+///
+/// `call` - VICall instance initiated the event
+///
+/// `endpointIds` - Ids of the endpoints whose video is received, the most
+/// recent speaker first
+typedef VIActiveSpeakerSelectionChanged = void Function(
+    VICall call, List<String> endpointIds);
+
 /// Represents a call.
 class VICall {
   /// Triggered when the call is connected.
@@ -258,7 +270,15 @@ class VICall {
   /// Triggered when the local video is removed from the call.
   VILocalVideoStreamRemoved? onLocalVideoStreamRemoved;
 
+  /// Triggered when the endpoints whose video is received have changed.
+  ///
+  /// Triggered only on the Android platform.
+  VIActiveSpeakerSelectionChanged? onActiveSpeakerSelectionChanged;
+
   final String _callId;
+  // Incoming calls on Android use pre-registered event channels with
+  // a generic id instead of the call id.
+  final String _channelId;
   String? _callKitUUID;
   final MethodChannel _channel;
   late StreamSubscription<dynamic> _eventSubscription;
@@ -269,26 +289,36 @@ class VICall {
   /// Quality issues are detected only if a call is connected.
   /// If a call is reconnecting, all previously detected issues (if any) are
   /// reset, their issue level is changed to [VIQualityIssueLevel.None]
-  Stream<VIQualityIssue> qualityIssuesStream;
+  late Stream<VIQualityIssue> qualityIssuesStream;
+  final _VICallQualityIssue _qualityIssueEvents;
 
   VIVideoStream? _localVideoStream;
 
+  // Quality issues known from the Android platform and their version, only
+  // the changes since the version are requested.
+  final Map<VIQualityIssueType, VIQualityIssueLevel> _qualityIssues = {};
+  int _qualityIssuesVersion = -1;
+
   VICall._(this._callId, this._channel)
-      : qualityIssuesStream =
-            _VICallQualityIssue._(_callId)._qualityStreamController.stream {
+      : _channelId = _callId,
+        _qualityIssueEvents = _VICallQualityIssue._(_callId) {
+    qualityIssuesStream = _qualityIssueEvents._qualityStreamController.stream;
     _setupEventSubscription();
   }
 
-  VICall._withEndpoint(this._callId, this._channel, VIEndpoint endpoint)
-      : qualityIssuesStream =
-            _VICallQualityIssue._(_callId)._qualityStreamController.stream {
+  VICall._withEndpoint(this._callId, this._channel, VIEndpoint endpoint,
+      [String? channelId])
+      : _channelId = channelId ?? _callId,
+        _qualityIssueEvents = _VICallQualityIssue._(channelId ?? _callId) {
+    qualityIssuesStream = _qualityIssueEvents._qualityStreamController.stream;
     _endpoints.add(endpoint);
     _setupEventSubscription();
   }
 
   void _setupEventSubscription() {
-    _eventSubscription = EventChannel('plugins.voximplant.com/call_$_callId')
-        .receiveBroadcastStream('plugins.voximplant.com/call_$_callId')
+    _eventSubscription = EventChannel('plugins.voximplant.com/call_$_channelId')
+        .receiveBroadcastStream('plugins.voximplant.com/call_$_channelId')
+        .expand(_VIEventBatch.expand)
         .listen(_eventListener);
   }
 
@@ -579,9 +609,143 @@ class VICall {
     }
   }
 
+  /// Call statistics samples, emitted as configured with [configureStats].
+  ///
+  /// Samples are only collected on the Android platform.
+  ///
+  /// The stream is a broadcast stream created once per call, all listeners
+  /// share one platform subscription.
+  late final Stream<VICallStatsSample> statsStream =
+      EventChannel('plugins.voximplant.com/call_stats_$_channelId')
+          .receiveBroadcastStream()
+          .expand(_VIEventBatch.expand)
+          .expand(_VICallStatsDecoder.decode);
+
+  /// Configures how [statsStream] emits call statistics.
+  ///
+  /// Optional `interval` - How often samples are emitted. All samples
+  /// collected since the previous emission are emitted together.
+  /// [Duration.zero] emits a sample as soon as any of the `fields` changes.
+  /// Defaults to 5 seconds.
+  ///
+  /// Optional `fields` - Fields included in samples. Defaults to all fields.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<void> configureStats({
+    Duration interval = const Duration(seconds: 5),
+    Set<VICallStatsField>? fields,
+  }) async {
+    if (!Platform.isAndroid) {
+      throw UnimplementedError('Call stats are not supported on iOS');
+    }
+    final int fieldMask = (fields ?? VICallStatsField.values.toSet())
+        .fold(0, (mask, field) => mask | (1 << field.index));
+    try {
+      await _channel.invokeMethod('Call.configureStats', <String, dynamic>{
+        'callId': callId,
+        'interval': interval.inMilliseconds,
+        'fields': fieldMask,
+      });
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
+  /// Receives video only from the `lastN` endpoints that started speaking
+  /// most recently, and from the `pinnedEndpointIds` endpoints. Video of the
+  /// other endpoints is stopped until they speak.
+  ///
+  /// Endpoints that have not spoken yet are selected in the order they
+  /// joined. [onActiveSpeakerSelectionChanged] is triggered whenever the
+  /// selection changes.
+  ///
+  /// Set `lastN` to 0 to receive video from all endpoints, which is the
+  /// default.
+  ///
+  /// Valid only for conferences. Has no effect on the iOS platform.
+  ///
+  /// Throws [VIException], if an error occurred.
+  ///
+  /// Errors:
+  /// * [VICallError.ERROR_INVALID_ARGUMENTS] - If `lastN` is negative.
+  Future<void> setActiveSpeakerSelection({
+    required int lastN,
+    List<String> pinnedEndpointIds = const [],
+  }) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    try {
+      await _channel.invokeMethod(
+          'Call.setActiveSpeakerSelection', <String, dynamic>{
+        'callId': callId,
+        'lastN': lastN,
+        'pinned': pinnedEndpointIds,
+      });
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
+  /// Returns call statistics aggregated over the last 10 seconds, the last
+  /// minute and the whole call.
+  ///
+  /// The result has the `call` metrics (`rtt`, `packetLoss`,
+  /// `incomingBitrate`, `outgoingBitrate`), the `endpoints` map from an
+  /// endpoint id to its remote streams and the `localStreams` map. Stream
+  /// metrics are `jitter`, `packetLoss`, `bitrate` and `frameRate`.
+  /// Each metric has `10s`, `60s` and `lifetime` summaries with `count`,
+  /// `min`, `avg`, `p95` and `max` values. Packet loss is a fraction of
+  /// packets and bitrates are in bits per second.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<Map<String, dynamic>> getStatsSummary() async {
+    if (!Platform.isAndroid) {
+      throw UnimplementedError('Call stats are not supported on iOS');
+    }
+    try {
+      final Map<dynamic, dynamic>? summary = await _channel
+          .invokeMethod('Call.getStatsSummary', <String, String>{
+        'callId': callId,
+      });
+      return summary?.cast<String, dynamic>() ?? {};
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
+  /// Returns the lifecycle stages the call has reached, in order.
+  ///
+  /// Each stage is a map with the `stage` name (e.g. `outgoing`, `ringing`,
+  /// `iceCompleted`, `connected`, `firstRemoteFrame`) and its `time` in
+  /// microseconds since the call was started or received.
+  /// Timelines of the most recent calls are kept after they end.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<List<Map<String, dynamic>>> getCallTimeline() async {
+    if (!Platform.isAndroid) {
+      throw UnimplementedError('Call timelines are not supported on iOS');
+    }
+    try {
+      final List<dynamic>? stages = await _channel
+          .invokeMethod('Metrics.callTimeline', <String, String>{
+        'callId': callId,
+      });
+      return stages
+              ?.map((stage) => (stage as Map).cast<String, dynamic>())
+              .toList() ??
+          [];
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
   /// Returns current status for all quality issues.
   Future<Map<VIQualityIssueType, VIQualityIssueLevel>>
       currentQualityIssues() async {
+    if (Platform.isAndroid) {
+      return _currentQualityIssuesChanges();
+    }
     try {
       Map<dynamic, dynamic> issues = await _channel.invokeMethod(
         'Call.getCurrentQualityIssues',
@@ -600,8 +764,32 @@ class VICall {
     }
   }
 
+  Future<Map<VIQualityIssueType, VIQualityIssueLevel>>
+      _currentQualityIssuesChanges() async {
+    try {
+      Map<dynamic, dynamic>? changes = await _channel.invokeMethod(
+        'Call.getCurrentQualityIssues',
+        <String, dynamic>{
+          'callId': callId,
+          'sinceVersion': _qualityIssuesVersion,
+        },
+      );
+      // null if no issue level has changed since the version
+      if (changes != null) {
+        (changes['issues'] as Map).forEach((key, value) {
+          _qualityIssues[VIQualityIssueType.values[key]] =
+              VIQualityIssueLevel.values[value];
+        });
+        _qualityIssuesVersion = changes['version'];
+      }
+      return Map.of(_qualityIssues);
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
   void _eventListener(dynamic event) {
-    final Map<dynamic, dynamic> map = event;
+    final Map<dynamic, dynamic> map = _VIBinaryEvents.decode(event);
     switch (map['event']) {
       case 'callConnected':
         Map<String, String> headers = {};
@@ -612,6 +800,7 @@ class VICall {
         break;
       case 'callDisconnected':
         _eventSubscription.cancel();
+        _qualityIssueEvents._cancel();
         Map<String, String> headers = {};
         map['headers'].forEach(
           (key, value) => {headers[key as String] = value as String},
@@ -628,6 +817,7 @@ class VICall {
         break;
       case 'callFailed':
         _eventSubscription.cancel();
+        _qualityIssueEvents._cancel();
         int code = map['code'];
         String description = map['description'];
         Map<String, String> headers = {};
@@ -813,6 +1003,10 @@ class VICall {
         }
         endpoint?._stopReceivingVideoStream(videoStreamId, stopReason);
         break;
+      case 'activeSpeakerSelectionChanged':
+        List<String> endpointIds = (map['endpointIds'] as List).cast<String>();
+        onActiveSpeakerSelectionChanged?.call(this, endpointIds);
+        break;
     }
   }
 }
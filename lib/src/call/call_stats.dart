@@ -0,0 +1,76 @@
+// Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+
+part of '../../flutter_voximplant.dart';
+
+/// Call statistics fields that can be requested with
+/// [VICall.configureStats].
+enum VICallStatsField {
+  /// Round trip time in seconds.
+  rtt,
+
+  /// Available incoming bitrate in bits per second.
+  availableIncomingBitrate,
+
+  /// Available outgoing bitrate in bits per second.
+  availableOutgoingBitrate,
+
+  /// Total number of packets lost.
+  packetsLost,
+
+  /// Total number of packets sent.
+  packetsSent,
+
+  /// Total number of bytes sent.
+  bytesSent,
+
+  /// Total number of packets received.
+  packetsReceived,
+
+  /// Total number of bytes received.
+  bytesReceived,
+}
+
+/// A sample of call statistics.
+class VICallStatsSample {
+  /// Time the statistics were collected at, as reported by the SDK.
+  final int timestamp;
+
+  /// Values of the fields selected with [VICall.configureStats].
+  final Map<VICallStatsField, double> values;
+
+  VICallStatsSample._(this.timestamp, this.values);
+}
+
+/// Decoder of call statistics samples sent by the Android plugin.
+/// The layout must match CallStatsPipeline.java.
+class _VICallStatsDecoder {
+  static const int _version = 1;
+
+  static List<VICallStatsSample> decode(dynamic event) {
+    if (event is! Uint8List) {
+      return [];
+    }
+    final data = ByteData.sublistView(event);
+    if (data.getUint8(0) != _version) {
+      return [];
+    }
+    final fieldMask = data.getUint16(1, Endian.little);
+    final count = data.getUint16(3, Endian.little);
+    final fields = VICallStatsField.values
+        .where((field) => fieldMask & (1 << field.index) != 0)
+        .toList();
+    final samples = <VICallStatsSample>[];
+    var offset = 5;
+    for (var i = 0; i < count; i++) {
+      final timestamp = data.getInt64(offset, Endian.little);
+      offset += 8;
+      final values = <VICallStatsField, double>{};
+      for (final field in fields) {
+        values[field] = data.getFloat64(offset, Endian.little);
+        offset += 8;
+      }
+      samples.add(VICallStatsSample._(timestamp, values));
+    }
+    return samples;
+  }
+}
@@ -329,24 +329,32 @@ class VINoVideoReceive extends VIQualityIssue {
 
 /// Represents a quality issue.
 class _VICallQualityIssue {
-  final String _callId;
+  final String _channelId;
+  late StreamSubscription<dynamic> _subscription;
 
   final StreamController<VIQualityIssue> _qualityStreamController =
       StreamController.broadcast();
 
-  _VICallQualityIssue._(this._callId) {
+  _VICallQualityIssue._(this._channelId) {
     _subscribeToIssues();
   }
 
   void _subscribeToIssues() {
-    EventChannel('plugins.voximplant.com/quality_issues_call_$_callId')
-        .receiveBroadcastStream(
-            'plugins.voximplant.com/quality_issues_call_$_callId')
-        .listen(_listener);
+    _subscription =
+        EventChannel('plugins.voximplant.com/quality_issues_call_$_channelId')
+            .receiveBroadcastStream(
+                'plugins.voximplant.com/quality_issues_call_$_channelId')
+            .expand(_VIEventBatch.expand)
+            .listen(_listener);
+  }
+
+  // Called when the call has ended, the platform channel is released.
+  void _cancel() {
+    _subscription.cancel();
   }
 
   void _listener(dynamic event) {
-    final Map<dynamic, dynamic> map = event;
+    final Map<dynamic, dynamic> map = _VIBinaryEvents.decode(event);
     switch (map['event']) {
       case 'VIQualityIssueTypePacketLoss':
         _qualityStreamController.add(VIPacketLoss._fromMap(map));
@@ -20,6 +20,10 @@ enum VIVideoRotation {
 ///
 /// Returns a Texture widget if streamId is set, or empty
 /// Container widget if no [VIVideoStream] is connected.
+///
+/// The view reports its visibility and size to the stream via
+/// [VIVideoViewController.setVisibility] when it is laid out, when its route
+/// is covered or uncovered, and when it is disposed.
 class VIVideoView extends StatefulWidget {
   final VIVideoViewController controller;
 
@@ -31,6 +35,14 @@ class VIVideoView extends StatefulWidget {
 
 class _VIVideoViewState extends State<VIVideoView> {
   int? _textureId;
+  // Last visibility reported to the stream, to report changes only
+  String? _reportedStreamId;
+  bool _reportedVisible = false;
+  int _reportedWidth = 0;
+  int _reportedHeight = 0;
+  bool _reportScheduled = false;
+  bool _tickerEnabled = true;
+  double _pixelRatio = 1.0;
 
   @override
   void initState() {
@@ -38,6 +50,22 @@ class _VIVideoViewState extends State<VIVideoView> {
     widget.controller._textureChanged = _textureChanged;
   }
 
+  @override
+  void didUpdateWidget(VIVideoView oldWidget) {
+    super.didUpdateWidget(oldWidget);
+    if (oldWidget.controller != widget.controller) {
+      _reportHidden(oldWidget.controller);
+      oldWidget.controller._textureChanged = null;
+      widget.controller._textureChanged = _textureChanged;
+    }
+  }
+
+  @override
+  void dispose() {
+    _reportHidden(widget.controller);
+    super.dispose();
+  }
+
   void _textureChanged(int? textureId) {
     setState(() {
       _VILog._i('textureChanged: $textureId');
@@ -45,10 +73,79 @@ class _VIVideoViewState extends State<VIVideoView> {
     });
   }
 
+  // Reports the visibility once the frame is laid out and the size is known
+  void _scheduleVisibilityReport() {
+    if (_reportScheduled) {
+      return;
+    }
+    _reportScheduled = true;
+    WidgetsBinding.instance.addPostFrameCallback((_) {
+      _reportScheduled = false;
+      if (mounted) {
+        _reportVisibility();
+      }
+    });
+  }
+
+  void _reportVisibility() {
+    final streamId = widget.controller.streamId;
+    final size = context.size;
+    var visible = false;
+    var width = 0;
+    var height = 0;
+    if (_tickerEnabled && size != null && !size.isEmpty) {
+      visible = true;
+      width = (size.width * _pixelRatio).round();
+      height = (size.height * _pixelRatio).round();
+    }
+    if (streamId == null ||
+        (streamId == _reportedStreamId &&
+            visible == _reportedVisible &&
+            width == _reportedWidth &&
+            height == _reportedHeight)) {
+      return;
+    }
+    _reportedStreamId = streamId;
+    _reportedVisible = visible;
+    _reportedWidth = width;
+    _reportedHeight = height;
+    _setVisibility(widget.controller, visible, width, height);
+  }
+
+  void _reportHidden(VIVideoViewController controller) {
+    if (_reportedVisible && controller.streamId == _reportedStreamId) {
+      _setVisibility(controller, false, 0, 0);
+    }
+    _reportedStreamId = null;
+    _reportedVisible = false;
+  }
+
+  Future<void> _setVisibility(VIVideoViewController controller, bool visible,
+      int width, int height) async {
+    try {
+      await controller.setVisibility(visible, width: width, height: height);
+    } on VIException catch (e) {
+      // e.g. the stream has been removed in the meantime
+      _VILog._w('VideoView: setVisibility: ${e.message}, skipping');
+    }
+  }
+
   @override
   Widget build(BuildContext context) {
     var id = _textureId;
-    return id != null ? Texture(textureId: id) : Container();
+    if (id == null) {
+      return Container();
+    }
+    // rebuilds when the route is covered or uncovered, or the pixel ratio
+    // changes
+    _tickerEnabled = TickerMode.of(context);
+    _pixelRatio = MediaQuery.maybeDevicePixelRatioOf(context) ?? 1.0;
+    _scheduleVisibilityReport();
+    // and on layout changes that do not rebuild this widget
+    return LayoutBuilder(builder: (context, constraints) {
+      _scheduleVisibilityReport();
+      return Texture(textureId: id);
+    });
   }
 }
 
@@ -97,10 +194,17 @@ class VIVideoViewController extends ValueNotifier<_VIVideoViewValue> {
         return Future<void>.value();
       }
 
-      Map<String, int>? data = await _channel.invokeMapMethod<String, int>(
-          'VideoStream.addVideoRenderer', <String, String>{
-        'streamId': streamId,
-      });
+      Map<String, int>? data;
+      try {
+        data = await _channel.invokeMapMethod<String, int>(
+            'VideoStream.addVideoRenderer', <String, String>{
+          'streamId': streamId,
+        });
+      } on PlatformException catch (e) {
+        // e.g. the stream is already rendered by another view
+        _VILog._w('VideoView: setStreamId: ${e.message}, skipping');
+        return;
+      }
 
       if (data == null) {
         _VILog._w('VideoView: setStreamId: data was null, skipping');
@@ -114,6 +218,7 @@ class VIVideoViewController extends ValueNotifier<_VIVideoViewValue> {
       _rendererSubscription = rendererChannel
           .receiveBroadcastStream(
               'plugins.voximplant.com/renderer_${data['textureId']}')
+          .expand(_VIEventBatch.expand)
           .listen(_onRendererEvent);
       _textureChanged?.call(data['textureId']);
       _streamId = streamId;
@@ -121,19 +226,61 @@ class VIVideoViewController extends ValueNotifier<_VIVideoViewValue> {
       if (_streamId == null) {
         return Future<void>.value();
       }
+      // The renderer may be reused for another stream once it is removed, so
+      // stop listening to it first.
+      _rendererSubscription?.cancel();
+      _rendererSubscription = null;
       await _channel
           .invokeMethod('VideoStream.removeVideoRenderer', <String, String?>{
         'streamId': _streamId,
       });
-      _rendererSubscription?.cancel();
-      _rendererSubscription = null;
       _textureChanged?.call(null);
       _streamId = null;
     }
   }
 
+  /// Reports whether the view of a remote video stream is visible on screen
+  /// and its size in physical pixels (logical size multiplied by the device
+  /// pixel ratio).
+  ///
+  /// On the Android platform, a stream whose view stays hidden for a second
+  /// stops being received and is received again once the view is visible.
+  /// A stable view size that differs from the previous one by more than 25%
+  /// is requested from the stream, see [VIEndpoint.requestVideoSize].
+  /// Streams are controlled only after their visibility is reported.
+  ///
+  /// [VIVideoView] reports its own visibility, call this method only for
+  /// a view hidden in a way the widget does not detect, e.g. scrolled out
+  /// of a non-lazy scroll view.
+  ///
+  /// Valid only for conferences. Has no effect on the iOS platform.
+  ///
+  /// Throws [VIException], if an error occurred.
+  ///
+  /// Errors:
+  /// * [VICallError.ERROR_INVALID_ARGUMENTS] - If failed to find video
+  /// stream by [streamId]
+  Future<void> setVisibility(bool visible,
+      {int width = 0, int height = 0}) async {
+    final streamId = _streamId;
+    if (streamId == null || !Platform.isAndroid) {
+      return;
+    }
+    try {
+      await _channel.invokeMethod<void>(
+          'VideoStream.setVisibility', <String, dynamic>{
+        'streamId': streamId,
+        'visible': visible,
+        'width': width,
+        'height': height,
+      });
+    } on PlatformException catch (e) {
+      throw VIException(e.code, e.message);
+    }
+  }
+
   void _onRendererEvent(dynamic event) {
-    final Map<dynamic, dynamic> map = event;
+    final Map<dynamic, dynamic> map = _VIBinaryEvents.decode(event);
     if (map['event'] == 'resolutionChanged') {
       _VILog._i(
           'VideoView: resolutionChanged: ${map['width']} x ${map['height']}, '
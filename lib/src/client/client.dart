@@ -61,6 +61,7 @@ class VIClient {
         EventChannel('plugins.voximplant.com/incoming_calls');
     EventChannel('plugins.voximplant.com/connection_events')
         .receiveBroadcastStream('connection_events')
+        .expand(_VIEventBatch.expand)
         .listen(_connectionEventListener);
 
     Map<String, dynamic> platformConfig = {};
@@ -76,7 +77,11 @@ class VIClient {
       platformConfig['logLevel'] = clientConfig.logLevel.index;
       platformConfig['forceRelayTraffic'] = clientConfig.forceRelayTraffic;
     }
-    _channel.invokeMethod("Client.initClient", platformConfig);
+    // A client init failure is logged by the platform, the constructor can
+    // not report it.
+    _channel
+        .invokeMethod<void>("Client.initClient", platformConfig)
+        .catchError((_) {});
 
     _clientStateStreamController = StreamController.broadcast();
   }
@@ -579,6 +584,7 @@ class VIClient {
   Future<VIAuthResult> _processLoginSuccess(Map<String, dynamic> data) async {
     _incomingCallEventSubscription = _incomingCallEventChannel
         .receiveBroadcastStream('incoming_calls')
+        .expand(_VIEventBatch.expand)
         .listen(_incomingCallEventListener);
 
     VILoginTokens? loginTokens;
@@ -614,7 +620,8 @@ class VIClient {
       bool video = map['video'];
       VIEndpoint endpoint =
           VIEndpoint._(endpointId, userName, displayName, sipUri, place);
-      VICall call = VICall._withEndpoint(map['callId'], _channel, endpoint);
+      VICall call = VICall._withEndpoint(
+          map['callId'], _channel, endpoint, map['channelId']);
       if (uuid != null) {
         call.callKitUUID = uuid;
       }
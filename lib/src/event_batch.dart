@@ -0,0 +1,12 @@
+// Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+
+part of '../flutter_voximplant.dart';
+
+/// The Android plugin delivers events queued within a frame as one list.
+///
+/// A binary event is a [Uint8List], which is also a [List], so it is
+/// never treated as a batch.
+class _VIEventBatch {
+  static Iterable<dynamic> expand(dynamic event) =>
+      event is List && event is! Uint8List ? event : [event];
+}
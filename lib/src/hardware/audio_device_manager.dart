@@ -85,6 +85,7 @@ class VIAudioDeviceManager {
   VIAudioDeviceManager._(this._channel) {
     EventChannel('plugins.voximplant.com/audio_device_events')
         .receiveBroadcastStream()
+        .expand(_VIEventBatch.expand)
         .listen(_eventListener);
   }
 
@@ -50,7 +50,7 @@ class VIAudioFile {
   /// Triggered when the audio file playing is stopped.
   VIAudioFileStopped? onStopped;
 
-  static MethodChannel get _methodChannel => Voximplant._channel;
+  static MethodChannel get _methodChannel => Voximplant._backgroundChannel;
   late StreamSubscription<dynamic> _eventSubscription;
   late String _fileId;
   final VIAudioFileUsage _usage;
@@ -115,6 +115,7 @@ class VIAudioFile {
       _eventSubscription =
           EventChannel('plugins.voximplant.com/audio_file_events_$_fileId')
               .receiveBroadcastStream()
+              .expand(_VIEventBatch.expand)
               .listen((event) {
         if (event['name'] == 'didStopPlaying') {
           onStopped?.call(event['error']);
@@ -439,7 +439,7 @@ class VIConversation {
         publicJoin = config.publicJoin,
         participants = config.participants,
         customData = config.customData,
-        _methodChannel = Voximplant._channel;
+        _methodChannel = Voximplant._backgroundChannel;
 
   VIConversation._fromMap(Map<dynamic, dynamic> map)
       : uuid = map['uuid'],
@@ -455,7 +455,7 @@ class VIConversation {
         lastSequence = map['lastSequence'],
         lastUpdateTime = map['lastUpdateTime'],
         customData = map['customData']?.cast<String, dynamic>() ?? {},
-        _methodChannel = Voximplant._channel;
+        _methodChannel = Voximplant._backgroundChannel;
 }
 
 /// Configuration either to create a new conversation or restore a previously created conversation:
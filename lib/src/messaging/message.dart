@@ -94,7 +94,7 @@ class VIMessage {
     this.text,
     this.payload,
     this.sequence,
-  ) : _methodChannel = Voximplant._channel;
+  ) : _methodChannel = Voximplant._backgroundChannel;
 
   VIMessage._fromMap(Map<dynamic, dynamic> map)
       : uuid = map['uuid'],
@@ -105,5 +105,5 @@ class VIMessage {
                 ?.map((e) => (e as Map).cast<String, dynamic>())
                 .toList() ??
             [],
-        _methodChannel = Voximplant._channel;
+        _methodChannel = Voximplant._backgroundChannel;
 }
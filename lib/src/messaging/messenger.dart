@@ -707,7 +707,10 @@ class VIMessenger {
   }
 
   VIMessenger._(this._methodChannel) {
-    _eventChannel.receiveBroadcastStream().listen(_eventListener);
+    _eventChannel
+        .receiveBroadcastStream()
+        .expand(_VIEventBatch.expand)
+        .listen(_eventListener);
   }
 
   void _eventListener(dynamic event) {
@@ -32,7 +32,8 @@ class Voximplant {
   VIClient? _client;
 
   /// Gets a [VIMessenger] instance of messaging subsystem.
-  VIMessenger get messenger => _messenger ??= VIMessenger._(_channel);
+  VIMessenger get messenger =>
+      _messenger ??= VIMessenger._(_backgroundChannel);
   VIMessenger? _messenger;
 
   /// Gets a [VIAudioDeviceManager] instance to control audio hardware settings.
@@ -48,6 +49,12 @@ class Voximplant {
   static const MethodChannel _channel =
       MethodChannel('plugins.voximplant.com/client');
 
+  // Messaging, audio file and logger calls are handled off the main thread
+  // on Android.
+  static final MethodChannel _backgroundChannel = Platform.isAndroid
+      ? const MethodChannel('plugins.voximplant.com/client_background')
+      : _channel;
+
   static const EventChannel _logsEventChannel =
       EventChannel('plugins.voximplant.com/logs');
 
@@ -82,7 +89,7 @@ class Voximplant {
   }) async {
     if (Platform.isAndroid) {
       try {
-        await _channel.invokeMethod('Logger.configureFileLogger', {
+        await _backgroundChannel.invokeMethod('Logger.configureFileLogger', {
           'path': path,
           'fileName': fileName,
           'fileSizeLimit': fileSizeLimit,
@@ -95,6 +102,242 @@ class Voximplant {
     }
   }
 
+  /// Enables or disables the compact binary format for high-frequency events
+  /// (quality issues, video resolution changes and voice activity).
+  ///
+  /// The binary format reduces encoding time and the size of each event
+  /// sent from the Android platform. It has no effect on the iOS platform.
+  Future<void> setBinaryEventsEnabled(bool enabled) async {
+    if (Platform.isAndroid) {
+      await _channel
+          .invokeMethod('Events.setBinaryFormat', {'enabled': enabled});
+    }
+  }
+
+  /// Sets the maximum time events may be held on the Android platform to be
+  /// delivered together on the next frame. Defaults to 32 milliseconds.
+  ///
+  /// [Duration.zero] delivers events as soon as possible, without waiting
+  /// for a frame. It has no effect on the iOS platform.
+  Future<void> setEventMaxLatency(Duration maxLatency) async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('Events.setMaxLatency',
+          {'maxLatency': maxLatency.inMilliseconds});
+    }
+  }
+
+  /// Gets the number of events the Android platform dropped or merged with
+  /// newer ones while they were waiting to be delivered.
+  ///
+  /// Returns a map with `dropped`, `merged` and `overflow` counters.
+  /// `overflow` counts events other than high-frequency ones that were
+  /// dropped because too many events were waiting, and events that are never
+  /// dropped, e.g. call state changes, queued while too many were waiting.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<Map<String, int>> getEventCounters() async {
+    if (Platform.isAndroid) {
+      final Map<dynamic, dynamic>? counters =
+          await _channel.invokeMethod('Events.getCounters');
+      return counters?.cast<String, int>() ?? {};
+    } else {
+      throw UnimplementedError('Event counters are not supported on iOS');
+    }
+  }
+
+  /// Configures debouncing of quality issue events on the Android platform.
+  ///
+  /// A new issue level is reported once it has held for [minDwell]. A lower
+  /// level must hold for [minDwell] plus [recoverDelay], so issues are
+  /// raised sooner than cleared. A level that goes back before it is
+  /// reported is not reported at all. [maxRate] limits the events of an
+  /// issue per second, 0 means no limit.
+  ///
+  /// [raiseLevel] and [clearLevel] add hysteresis: an issue is raised once
+  /// its level reaches [raiseLevel] and is kept until its level drops below
+  /// [clearLevel]. Levels in between are not reported. [clearLevel] must not
+  /// be higher than [raiseLevel], and neither may be [VIQualityIssueLevel.None].
+  ///
+  /// Optional `issueType` - The issue type to configure. If null, the
+  /// configuration applies to all issue types and replaces the ones set for
+  /// each type.
+  ///
+  /// By default every event is delivered as the SDK reports it: durations
+  /// and [maxRate] are 0 and both levels are [VIQualityIssueLevel.Minor].
+  /// The SDK already detects issues over its own measurement periods, so
+  /// further smoothing is left to the application.
+  ///
+  /// The setting applies to events reported after the call.
+  ///
+  /// Has no effect on the iOS platform.
+  Future<void> setQualityIssueDebounce({
+    VIQualityIssueType? issueType,
+    Duration minDwell = Duration.zero,
+    Duration recoverDelay = Duration.zero,
+    int maxRate = 0,
+    VIQualityIssueLevel raiseLevel = VIQualityIssueLevel.Minor,
+    VIQualityIssueLevel clearLevel = VIQualityIssueLevel.Minor,
+  }) async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('Events.setQualityIssueDebounce', {
+        'issueType': issueType != null
+            ? 'VIQualityIssueType${issueType.toString().split('.').last}'
+            : null,
+        'minDwell': minDwell.inMilliseconds,
+        'recoverDelay': recoverDelay.inMilliseconds,
+        'maxRate': maxRate,
+        'raiseLevel': raiseLevel.index,
+        'clearLevel': clearLevel.index,
+      });
+    }
+  }
+
+  /// Gets the number of quality issue events the Android platform held back
+  /// or merged, see [setQualityIssueDebounce].
+  ///
+  /// Returns a map from an issue type (e.g. `VIQualityIssueTypePacketLoss`)
+  /// to the number of events.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<Map<String, int>> getQualityIssueCounters() async {
+    if (Platform.isAndroid) {
+      final Map<dynamic, dynamic>? counters =
+          await _channel.invokeMethod('Events.getQualityIssueCounters');
+      return counters?.cast<String, int>() ?? {};
+    } else {
+      throw UnimplementedError(
+          'Quality issue counters are not supported on iOS');
+    }
+  }
+
+  /// Configures reuse of video renderers on the Android platform.
+  ///
+  /// A renderer removed from a video stream keeps its texture and render
+  /// thread and is reused for the next stream. Up to [maxSize] renderers
+  /// are kept, a renderer unused for [idleTimeout] is released. Set
+  /// [maxSize] to 0 to release renderers immediately.
+  ///
+  /// By default up to 4 renderers are kept for 30 seconds.
+  ///
+  /// Has no effect on the iOS platform.
+  Future<void> setVideoRendererPool({
+    int maxSize = 4,
+    Duration idleTimeout = const Duration(seconds: 30),
+  }) async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('VideoStream.setRendererPool', {
+        'maxSize': maxSize,
+        'idleTimeout': idleTimeout.inMilliseconds,
+      });
+    }
+  }
+
+  /// Enables or disables collection of the latency statistics returned by
+  /// [getMethodMetrics]. Collection is disabled by default, as timing every
+  /// platform method call adds to its cost.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<void> setMethodMetricsEnabled(bool enabled) async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('Metrics.setEnabled', {
+        'enabled': enabled,
+      });
+    } else {
+      throw UnimplementedError('Method metrics are not supported on iOS');
+    }
+  }
+
+  /// Gets latency statistics of platform method calls.
+  ///
+  /// Returns a map from a method name (e.g. `Call.hangupCall`) to
+  /// `dispatch` and `completion` statistics. Each of them contains `count`,
+  /// `mean`, `max`, `p50`, `p90` and `p99` values in microseconds.
+  /// Statistics are only collected while enabled with
+  /// [setMethodMetricsEnabled].
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<Map<String, dynamic>> getMethodMetrics() async {
+    if (Platform.isAndroid) {
+      final Map<dynamic, dynamic>? metrics =
+          await _channel.invokeMethod('Metrics.snapshot');
+      return metrics?.cast<String, dynamic>() ?? {};
+    } else {
+      throw UnimplementedError('Method metrics are not supported on iOS');
+    }
+  }
+
+  /// Clears latency statistics collected for [getMethodMetrics].
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<void> resetMethodMetrics() async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('Metrics.reset');
+    } else {
+      throw UnimplementedError('Method metrics are not supported on iOS');
+    }
+  }
+
+  /// Enables or disables recording of call statistics and quality issues
+  /// to files for later analysis.
+  ///
+  /// While enabled, each new call on the Android platform records to
+  /// `<callId>.vxstats` in [directory]. Each file is bounded to [maxBytes]
+  /// and keeps the latest records. Use `tools/CallStatsDecoder.java` to
+  /// convert a file to CSV or JSON lines.
+  ///
+  /// `directory` - An existing directory, or null to disable recording.
+  ///
+  /// Optional `maxBytes` - Maximum size of a file. Defaults to 1 MiB.
+  ///
+  /// Throws [VIException] if the directory does not exist or [maxBytes] is
+  /// too small, or [UnimplementedError] on the iOS platform.
+  Future<void> setCallStatsRecording(String? directory,
+      {int maxBytes = 1048576}) async {
+    if (Platform.isAndroid) {
+      try {
+        await _channel.invokeMethod('Metrics.setStatsRecording', {
+          'directory': directory,
+          'maxBytes': maxBytes,
+        });
+      } on PlatformException catch (e) {
+        throw VIException(e.code, e.message);
+      }
+    } else {
+      throw UnimplementedError('Call stats recording is not supported on iOS');
+    }
+  }
+
+  /// Gets latency statistics of call setup stages.
+  ///
+  /// Returns a map from a key to statistics with `count`, `mean`, `max`,
+  /// `p50`, `p90` and `p99` values in microseconds. Keys are:
+  /// * `outgoing.<stage>` and `incoming.<stage>` - time from the start of
+  ///   the call to the first time it reached the stage.
+  /// * `answered.<stage>` - time from answering an incoming call.
+  /// * `reconnect` - duration of call reconnections.
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<Map<String, dynamic>> getCallSetupMetrics() async {
+    if (Platform.isAndroid) {
+      final Map<dynamic, dynamic>? metrics =
+          await _channel.invokeMethod('Metrics.callSetup');
+      return metrics?.cast<String, dynamic>() ?? {};
+    } else {
+      throw UnimplementedError('Call setup metrics are not supported on iOS');
+    }
+  }
+
+  /// Clears statistics collected for [getCallSetupMetrics].
+  ///
+  /// Throws [UnimplementedError] on the iOS platform.
+  Future<void> resetCallSetupMetrics() async {
+    if (Platform.isAndroid) {
+      await _channel.invokeMethod('Metrics.resetCallSetup');
+    } else {
+      throw UnimplementedError('Call setup metrics are not supported on iOS');
+    }
+  }
+
   void _logsEventListener(dynamic event) {
     final Map<dynamic, dynamic> map = event;
     if (map['event'] == 'onLogMessage') {
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2026, Voximplant, Inc. All rights reserved.
+ */
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Decodes call stats files written by the Android plugin when stats recording is enabled with
+ * Voximplant.setCallStatsRecording, and prints their records as CSV or JSON lines.
+ *
+ * Runs on any JDK 11+ without building the plugin:
+ *
+ *     java tools/CallStatsDecoder.java [--json] <file.vxstats>
+ *
+ * Records are printed oldest first. The layout must match CallStatsRecorder.java.
+ */
+public class CallStatsDecoder {
+    private static final int MAGIC = 0x52535856;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_STATS = 1;
+    private static final int RECORD_QUALITY_ISSUE = 2;
+
+    private static final String[] STATS_COLUMNS = {
+            "rtt", "availableIncomingBitrate", "availableOutgoingBitrate", "packetsLost",
+            "packetsSent", "bytesSent", "packetsReceived", "bytesReceived"
+    };
+    private static final String[] LEVELS = {"none", "minor", "major", "critical"};
+
+    public static void main(String[] args) throws IOException {
+        boolean json = false;
+        String path = null;
+        for (String arg : args) {
+            if (arg.equals("--json")) {
+                json = true;
+            } else {
+                path = arg;
+            }
+        }
+        if (path == null) {
+            System.err.println("usage: java tools/CallStatsDecoder.java [--json] <file.vxstats>");
+            System.exit(2);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(path))).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            fail(path + ": not a call stats file");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            fail(path + ": unsupported version " + buffer.getShort(4));
+        }
+        int recordSize = buffer.getShort(6) & 0xFFFF;
+        int capacity = buffer.getInt(8);
+        long count = buffer.getLong(16);
+        long startTime = buffer.getLong(24);
+        if ((long) HEADER_SIZE + (long) capacity * recordSize > buffer.limit()) {
+            fail(path + ": file is truncated");
+        }
+
+        PrintStream out = System.out;
+        if (!json) {
+            out.println("time,elapsedMs,type,issue,level," + String.join(",", STATS_COLUMNS) + ",values");
+        }
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        for (long i = Math.max(0, count - capacity); i < count; i++) {
+            int offset = HEADER_SIZE + (int) (i % capacity) * recordSize;
+            int type = buffer.get(offset);
+            long elapsed = buffer.getLong(offset + 8);
+            String time = format.format(new Date(startTime + elapsed));
+            if (type == RECORD_STATS) {
+                printStats(out, buffer, offset, time, elapsed, json);
+            } else if (type == RECORD_QUALITY_ISSUE) {
+                printQualityIssue(out, buffer, offset, time, elapsed, json);
+            }
+        }
+    }
+
+    private static void printStats(PrintStream out, ByteBuffer buffer, int offset, String time, long elapsed,
+                                   boolean json) {
+        Object[] values = {
+                buffer.getDouble(offset + 16), buffer.getDouble(offset + 24), buffer.getDouble(offset + 32),
+                buffer.getLong(offset + 40), buffer.getLong(offset + 48), buffer.getLong(offset + 56),
+                buffer.getLong(offset + 64), buffer.getLong(offset + 72)
+        };
+        StringBuilder line = new StringBuilder();
+        if (json) {
+            line.append("{\"time\":\"").append(time).append("\",\"elapsedMs\":").append(elapsed)
+                    .append(",\"type\":\"stats\"");
+            for (int i = 0; i < values.length; i++) {
+                line.append(",\"").append(STATS_COLUMNS[i]).append("\":").append(values[i]);
+            }
+            line.append('}');
+        } else {
+            line.append(time).append(',').append(elapsed).append(",stats,,");
+            for (Object value : values) {
+                line.append(',').append(value);
+            }
+            line.append(',');
+        }
+        out.println(line);
+    }
+
+    private static void printQualityIssue(PrintStream out, ByteBuffer buffer, int offset, String time, long elapsed,
+                                          boolean json) {
+        String issue = issueName(buffer.get(offset + 1));
+        int levelIndex = buffer.get(offset + 2);
+        String level = levelIndex >= 0 && levelIndex < LEVELS.length ? LEVELS[levelIndex] : String.valueOf(levelIndex);
+        int valueCount = issueValueCount(buffer.get(offset + 1));
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < valueCount; i++) {
+            if (i > 0) {
+                values.append(json ? "," : ";");
+            }
+            values.append(buffer.getDouble(offset + 16 + i * 8));
+        }
+        StringBuilder line = new StringBuilder();
+        if (json) {
+            line.append("{\"time\":\"").append(time).append("\",\"elapsedMs\":").append(elapsed)
+                    .append(",\"type\":\"qualityIssue\",\"issue\":\"").append(issue)
+                    .append("\",\"level\":\"").append(level).append("\",\"values\":[").append(values).append("]}");
+        } else {
+            line.append(time).append(',').append(elapsed).append(",qualityIssue,").append(issue).append(',')
+                    .append(level);
+            for (int i = 0; i < STATS_COLUMNS.length; i++) {
+                line.append(',');
+            }
+            line.append(',').append(values);
+        }
+        out.println(line);
+    }
+
+    // Issue types are BinaryEventCodec tags
+    private static String issueName(int type) {
+        switch (type) {
+            case 1: return "packetLoss";
+            case 2: return "codecMismatch";
+            case 3: return "localVideoDegradation";
+            case 4: return "iceDisconnected";
+            case 5: return "highMediaLatency";
+            case 6: return "noAudioSignal";
+            case 7: return "noAudioReceive";
+            case 8: return "noVideoReceive";
+            default: return "unknown" + type;
+        }
+    }
+
+    private static int issueValueCount(int type) {
+        switch (type) {
+            case 1:
+            case 5:
+                return 1;
+            case 3:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}